@@ -0,0 +1,120 @@
+package com.micro.benchmarks;
+
+import com.micro.notification.email.EmailService;
+import com.micro.notification.kafka.order.Product;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * E-mail rendering of the notification service.
+ * <p>
+ * {@code render*} measure the Thymeleaf templates alone, {@code send*} the whole {@link EmailService} method
+ * (template + MIME message) with a mail sender that drops the message instead of talking to SMTP.
+ * The template engine is configured like Spring Boot's auto-configuration (classpath:/templates/, HTML, cached).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int productCount;
+
+    private SpringTemplateEngine templateEngine;
+    private EmailService emailService;
+    private List<Product> products;
+    private BigDecimal totalAmount;
+
+    @Setup
+    public void setUp() {
+        var resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        emailService = new EmailService(new DiscardingMailSender(), templateEngine);
+
+        products = new ArrayList<>();
+        for (int i = 1; i <= productCount; i++) {
+            products.add(new Product(i, "Product " + i, "Description of product " + i, new BigDecimal("19.99"), i));
+        }
+        totalAmount = new BigDecimal("19.99").multiply(BigDecimal.valueOf(productCount));
+    }
+
+    @Benchmark
+    public String renderOrderConfirmation() {
+        var context = new Context();
+        context.setVariables(Map.of(
+                "customerName", "Jane Doe",
+                "totalAmount", totalAmount,
+                "orderReference", "ORD-2024-000123",
+                "products", products
+        ));
+        return templateEngine.process("order-confirmation.html", context);
+    }
+
+    @Benchmark
+    public String renderPaymentConfirmation() {
+        var context = new Context();
+        context.setVariables(Map.of(
+                "customerName", "Jane Doe",
+                "amount", totalAmount,
+                "orderReference", "ORD-2024-000123"
+        ));
+        return templateEngine.process("payment-confirmation.html", context);
+    }
+
+    @Benchmark
+    public void sendOrderConfirmation() throws MessagingException {
+        emailService.sendOrderConfirmationEmail("jane.doe@example.com", "Jane Doe", totalAmount, "ORD-2024-000123", products);
+    }
+
+    @Benchmark
+    public void sendPaymentConfirmation() throws MessagingException {
+        emailService.sendPaymentSuccessEmail("jane.doe@example.com", "Jane Doe", totalAmount, "ORD-2024-000123");
+    }
+
+    /**
+     * Builds real MIME messages but never opens an SMTP connection.
+     */
+    private static final class DiscardingMailSender extends JavaMailSenderImpl {
+
+        @Override
+        public void send(MimeMessage mimeMessage) {
+            // dropped on purpose
+        }
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            // dropped on purpose
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.micro.benchmarks;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.micro.customer.customer.Address;
+import com.micro.order.product.PurchaseRequest;
+import com.micro.order.product.PurchaseResponse;
+import com.micro.product.product.ProductPurchaseRequest;
+import com.micro.product.product.ProductPurchaseResponse;
+import com.micro.product.product.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * HTTP payloads: the {@code /api/v1/products} list the gateway compresses, and the bodies of the service-to-service
+ * calls that use Smile ({@code ProductClient} purchase, {@code CustomerClient} lookup).
+ * <p>
+ * Product list: serialized as JSON (what browsers get), then compressed the way the gateway's Netty compressor does
+ * by default: gzip at level 6, brotli at quality 4. Smile is shown for comparison. {@code products} covers the
+ * seeded catalogue (25) and a grown one (500).
+ * <p>
+ * Service-to-service: each body is written by one service's records and read by the other's (order's
+ * {@code PurchaseRequest} read as product's {@code ProductPurchaseRequest}, and so on), in JSON and in Smile.
+ * <p>
+ * Run with {@code -prof com.micro.benchmarks.PayloadSizeProfiler} for the bytes on the wire of every variant
+ * ({@code ·payload.json}, {@code ·payload.json.gzip}, {@code ·payload.json.br}, {@code ·payload.smile}, ...).
+ * Brotli needs brotli4j's native library, which the build adds for the common platforms (see the pom's profiles).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpPayloadBenchmark implements PayloadSizes {
+
+    private static final String[][] CATEGORIES = {
+            {"Keyboards", "Computer Keyboards"}, {"Monitors", "Computer Monitors"}, {"Screens", "Display Screens"},
+            {"Mice", "Computer Mice"}, {"Accessories", "Computer Accessories"}};
+    private static final String[] ADJECTIVES = {"Mechanical", "Wireless", "Gaming", "Ergonomic", "Compact", "Curved", "4K", "Portable"};
+
+    private static final int GZIP_LEVEL = 6;    // Netty's StandardCompressionOptions.gzip() default
+    private static final int BROTLI_QUALITY = 4; // Netty's StandardCompressionOptions.brotli() default
+
+    @Param({"25", "500"})
+    public int products;
+
+    // Same relevant settings as the ObjectMapper Spring Boot builds for MVC and the HTTP clients
+    private final ObjectMapper json = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final ObjectMapper smile = SmileMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final Encoder.Parameters brotli = new Encoder.Parameters().setQuality(BROTLI_QUALITY).setMode(Encoder.Mode.TEXT);
+
+    private JavaType purchaseRequests;
+    private JavaType purchaseResponses;
+
+    private List<ProductResponse> productList;
+    private List<PurchaseRequest> purchaseRequest;
+    private List<ProductPurchaseResponse> purchaseResponse;
+    private com.micro.customer.customer.CustomerResponse customer;
+
+    private byte[] productListJson;
+    private byte[] productListSmile;
+    private byte[] purchaseRequestJson;
+    private byte[] purchaseRequestSmile;
+    private byte[] purchaseResponseJson;
+    private byte[] purchaseResponseSmile;
+    private byte[] customerJson;
+    private byte[] customerSmile;
+
+    @Setup
+    public void setUp() throws IOException {
+        Brotli4jLoader.ensureAvailability();
+        purchaseRequests = json.getTypeFactory().constructCollectionType(List.class, ProductPurchaseRequest.class);
+        purchaseResponses = json.getTypeFactory().constructCollectionType(List.class, PurchaseResponse.class);
+
+        productList = new ArrayList<>(products);
+        for (int i = 1; i <= products; i++) {
+            String[] category = CATEGORIES[i % CATEGORIES.length];
+            String adjective = ADJECTIVES[i % ADJECTIVES.length];
+            String singular = category[0].substring(0, category[0].length() - 1);
+            productList.add(new ProductResponse(i, adjective + " " + singular + " " + i,
+                    adjective.toLowerCase() + " " + singular.toLowerCase() + " with a two-year warranty",
+                    10 + i % 90, new BigDecimal(19 + (i * 37) % 400 + ".99"), 1 + i % CATEGORIES.length,
+                    category[0], category[1]));
+        }
+        // A checkout buys 1-4 products; the purchase call carries all of them
+        purchaseRequest = List.of(new PurchaseRequest(1, 2), new PurchaseRequest(7, 1), new PurchaseRequest(12, 3));
+        purchaseResponse = List.of(
+                new ProductPurchaseResponse(1, "Mechanical Keyboard 1", "Mechanical keyboard with RGB lighting", new BigDecimal("99.99"), 2),
+                new ProductPurchaseResponse(7, "Curved Monitor 7", "Curved monitor with a two-year warranty", new BigDecimal("278.99"), 1),
+                new ProductPurchaseResponse(12, "Wireless Mouse 12", "Wireless mouse with a two-year warranty", new BigDecimal("23.99"), 3));
+        customer = new com.micro.customer.customer.CustomerResponse("65f1c0ffee0000000000abcd", "Jane", "Doe",
+                "jane.doe@example.com", new Address("Test street", "12", "10115"), 3);
+
+        productListJson = json.writeValueAsBytes(productList);
+        productListSmile = smile.writeValueAsBytes(productList);
+        purchaseRequestJson = json.writeValueAsBytes(purchaseRequest);
+        purchaseRequestSmile = smile.writeValueAsBytes(purchaseRequest);
+        purchaseResponseJson = json.writeValueAsBytes(purchaseResponse);
+        purchaseResponseSmile = smile.writeValueAsBytes(purchaseResponse);
+        customerJson = json.writeValueAsBytes(customer);
+        customerSmile = smile.writeValueAsBytes(customer);
+    }
+
+    @Override
+    public void prepare(BenchmarkParams params) throws IOException {
+        products = Integer.parseInt(params.getParam("products"));
+        setUp();
+    }
+
+    @Override
+    public Map<String, Integer> payloadSizes(String benchmarkMethod) {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        try {
+            if (benchmarkMethod.startsWith("productList")) {
+                sizes.put("json", productListJson.length);
+                sizes.put("json.gzip", gzip(productListJson).length);
+                sizes.put("json.br", brotli(productListJson).length);
+                sizes.put("smile", productListSmile.length);
+                sizes.put("smile.gzip", gzip(productListSmile).length);
+            } else if (benchmarkMethod.startsWith("purchaseRequest")) {
+                sizes.put("json", purchaseRequestJson.length);
+                sizes.put("smile", purchaseRequestSmile.length);
+            } else if (benchmarkMethod.startsWith("purchaseResponse")) {
+                sizes.put("json", purchaseResponseJson.length);
+                sizes.put("smile", purchaseResponseSmile.length);
+            } else {
+                sizes.put("json", customerJson.length);
+                sizes.put("smile", customerSmile.length);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return sizes;
+    }
+
+    // GET /api/v1/products, product service -> gateway -> client
+
+    @Benchmark
+    public byte[] productListToJson() throws IOException {
+        return json.writeValueAsBytes(productList);
+    }
+
+    @Benchmark
+    public byte[] productListToJsonGzip() throws IOException {
+        return gzip(json.writeValueAsBytes(productList));
+    }
+
+    @Benchmark
+    public byte[] productListToJsonBrotli() throws IOException {
+        return brotli(json.writeValueAsBytes(productList));
+    }
+
+    @Benchmark
+    public byte[] productListToSmile() throws IOException {
+        return smile.writeValueAsBytes(productList);
+    }
+
+    // ProductClient.purchaseProducts: order writes the request, product reads it
+
+    @Benchmark
+    public List<ProductPurchaseRequest> purchaseRequestJson() throws IOException {
+        return json.readValue(json.writeValueAsBytes(purchaseRequest), purchaseRequests);
+    }
+
+    @Benchmark
+    public List<ProductPurchaseRequest> purchaseRequestSmile() throws IOException {
+        return smile.readValue(smile.writeValueAsBytes(purchaseRequest), purchaseRequests);
+    }
+
+    // ... product writes the response, order reads it
+
+    @Benchmark
+    public List<PurchaseResponse> purchaseResponseJson() throws IOException {
+        return json.readValue(json.writeValueAsBytes(purchaseResponse), purchaseResponses);
+    }
+
+    @Benchmark
+    public List<PurchaseResponse> purchaseResponseSmile() throws IOException {
+        return smile.readValue(smile.writeValueAsBytes(purchaseResponse), purchaseResponses);
+    }
+
+    // CustomerClient.findCustomerById: customer writes its CustomerResponse, order reads its own
+
+    @Benchmark
+    public com.micro.order.customer.CustomerResponse customerJson() throws IOException {
+        return json.readValue(json.writeValueAsBytes(customer), com.micro.order.customer.CustomerResponse.class);
+    }
+
+    @Benchmark
+    public com.micro.order.customer.CustomerResponse customerSmile() throws IOException {
+        return smile.readValue(smile.writeValueAsBytes(customer), com.micro.order.customer.CustomerResponse.class);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        var out = new ByteArrayOutputStream(body.length / 4);
+        try (var gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(GZIP_LEVEL);
+            }
+        }) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] brotli(byte[] body) throws IOException {
+        return Encoder.compress(body, brotli);
+    }
+}
@@ -0,0 +1,96 @@
+package com.micro.benchmarks;
+
+import com.micro.gateway.security.CachingReactiveJwtDecoder;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bearer-token validation in the gateway: plain Nimbus RS256 verification versus {@link CachingReactiveJwtDecoder}.
+ * <p>
+ * {@code distinctTokens} is the number of different tokens cycled through; with 1 every call after the first is
+ * a cache hit, with larger values it approximates many clients sharing one gateway instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    @Param({"1", "1000"})
+    public int distinctTokens;
+
+    private ReactiveJwtDecoder nimbus;
+    private ReactiveJwtDecoder caching;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException, JOSEException {
+        var generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        var keyPair = generator.generateKeyPair();
+
+        nimbus = NimbusReactiveJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        caching = new CachingReactiveJwtDecoder(nimbus, 10_000);
+
+        var signer = new RSASSASigner(keyPair.getPrivate());
+        tokens = new String[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            var claims = new JWTClaimsSet.Builder()
+                    .subject("customer-" + i)
+                    .issuer("http://localhost:9098/realms/micro-services")
+                    .jwtID(UUID.randomUUID().toString())
+                    .issueTime(Date.from(Instant.now()))
+                    .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                    .claim("scope", "openid profile email")
+                    .build();
+            var jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+            jwt.sign(signer);
+            tokens[i] = jwt.serialize();
+        }
+    }
+
+    @Benchmark
+    public Jwt nimbusDecoder() {
+        return nimbus.decode(nextToken()).block();
+    }
+
+    @Benchmark
+    public Jwt cachingDecoder() {
+        return caching.decode(nextToken()).block();
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return token;
+    }
+}
@@ -0,0 +1,181 @@
+package com.micro.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.micro.order.customer.CustomerResponse;
+import com.micro.notification.kafka.AvroEventDeserializer;
+import com.micro.order.kafka.OrderConfirmation;
+import com.micro.order.kafka.OrderConfirmationAvroSerializer;
+import com.micro.order.order.PaymentMethod;
+import com.micro.order.product.PurchaseResponse;
+import com.micro.payment.notification.PaymentNotificationAvroSerializer;
+import com.micro.payment.notification.PaymentNotificationRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (De)serialization of the Kafka events: {@code OrderConfirmation} (order-topic) and
+ * {@code PaymentNotificationRequest} (payment-topic).
+ * <p>
+ * Avro is what the producers send (OrderConfirmationAvroSerializer, PaymentNotificationAvroSerializer) and the
+ * notification service reads (AvroEventDeserializer, which maps to its own records). JSON is the previous format
+ * (spring-kafka's JsonSerializer, plus a {@code __TypeId__} header per record); the Smile variants show what the
+ * binary format used for the HTTP calls between services would save on the same payloads.
+ * <p>
+ * Run with {@code -prof com.micro.benchmarks.PayloadSizeProfiler} to get the encoded size of the event in every
+ * format as secondary results ({@code ·payload.json}, {@code ·payload.smile}, {@code ·payload.avro}, in bytes),
+ * which {@code -rf json} writes next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaPayloadBenchmark implements PayloadSizes {
+
+    // Same relevant settings as spring-kafka's JacksonUtils.enhancedObjectMapper()
+    private final ObjectMapper json = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final ObjectMapper smile = SmileMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private OrderConfirmation orderConfirmation;
+    private PaymentNotificationRequest paymentNotification;
+    private byte[] orderConfirmationJson;
+    private byte[] orderConfirmationSmile;
+    private byte[] paymentNotificationJson;
+    private byte[] paymentNotificationSmile;
+
+    private final OrderConfirmationAvroSerializer orderConfirmationAvro = new OrderConfirmationAvroSerializer();
+    private final PaymentNotificationAvroSerializer paymentNotificationAvro = new PaymentNotificationAvroSerializer();
+    private final AvroEventDeserializer avroEvents = new AvroEventDeserializer();
+    private byte[] orderConfirmationAvroBytes;
+    private byte[] paymentNotificationAvroBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        var products = new ArrayList<PurchaseResponse>();
+        for (int i = 1; i <= 5; i++) {
+            products.add(new PurchaseResponse(i, "Product " + i, "Description of product " + i, new BigDecimal("19.99"), i));
+        }
+        orderConfirmation = new OrderConfirmation(
+                "ORD-2024-000123",
+                new BigDecimal("299.85"),
+                PaymentMethod.CREDIT_CARD,
+                new CustomerResponse("65f1c0ffee0000000000abcd", "Jane", "Doe", "jane.doe@example.com"),
+                products
+        );
+        paymentNotification = new PaymentNotificationRequest(
+                "ORD-2024-000123",
+                new BigDecimal("299.85"),
+                com.micro.payment.payment.PaymentMethod.CREDIT_CARD,
+                "Jane",
+                "Doe",
+                "jane.doe@example.com"
+        );
+        orderConfirmationJson = json.writeValueAsBytes(orderConfirmation);
+        orderConfirmationSmile = smile.writeValueAsBytes(orderConfirmation);
+        paymentNotificationJson = json.writeValueAsBytes(paymentNotification);
+        paymentNotificationSmile = smile.writeValueAsBytes(paymentNotification);
+        avroEvents.configure(Map.of("spring.json.trusted.packages", "*"), false);
+        orderConfirmationAvroBytes = orderConfirmationAvro.serialize("order-topic", orderConfirmation);
+        paymentNotificationAvroBytes = paymentNotificationAvro.serialize("payment-topic", paymentNotification);
+    }
+
+    @Override
+    public void prepare(BenchmarkParams params) throws IOException {
+        setUp();
+    }
+
+    @Override
+    public Map<String, Integer> payloadSizes(String benchmarkMethod) {
+        if (benchmarkMethod.startsWith("orderConfirmation")) {
+            return Map.of("json", orderConfirmationJson.length, "smile", orderConfirmationSmile.length,
+                    "avro", orderConfirmationAvroBytes.length);
+        }
+        return Map.of("json", paymentNotificationJson.length, "smile", paymentNotificationSmile.length,
+                "avro", paymentNotificationAvroBytes.length);
+    }
+
+    @Benchmark
+    public byte[] orderConfirmationToJson() throws IOException {
+        return json.writeValueAsBytes(orderConfirmation);
+    }
+
+    @Benchmark
+    public OrderConfirmation orderConfirmationFromJson() throws IOException {
+        return json.readValue(orderConfirmationJson, OrderConfirmation.class);
+    }
+
+    @Benchmark
+    public byte[] orderConfirmationToSmile() throws IOException {
+        return smile.writeValueAsBytes(orderConfirmation);
+    }
+
+    @Benchmark
+    public OrderConfirmation orderConfirmationFromSmile() throws IOException {
+        return smile.readValue(orderConfirmationSmile, OrderConfirmation.class);
+    }
+
+    @Benchmark
+    public byte[] paymentNotificationToJson() throws IOException {
+        return json.writeValueAsBytes(paymentNotification);
+    }
+
+    @Benchmark
+    public PaymentNotificationRequest paymentNotificationFromJson() throws IOException {
+        return json.readValue(paymentNotificationJson, PaymentNotificationRequest.class);
+    }
+
+    @Benchmark
+    public byte[] paymentNotificationToSmile() throws IOException {
+        return smile.writeValueAsBytes(paymentNotification);
+    }
+
+    @Benchmark
+    public PaymentNotificationRequest paymentNotificationFromSmile() throws IOException {
+        return smile.readValue(paymentNotificationSmile, PaymentNotificationRequest.class);
+    }
+
+    @Benchmark
+    public byte[] orderConfirmationToAvro() {
+        return orderConfirmationAvro.serialize("order-topic", orderConfirmation);
+    }
+
+    @Benchmark
+    public Object orderConfirmationFromAvro() {
+        return avroEvents.deserialize("order-topic", orderConfirmationAvroBytes);
+    }
+
+    @Benchmark
+    public byte[] paymentNotificationToAvro() {
+        return paymentNotificationAvro.serialize("payment-topic", paymentNotification);
+    }
+
+    @Benchmark
+    public Object paymentNotificationFromAvro() {
+        return avroEvents.deserialize("payment-topic", paymentNotificationAvroBytes);
+    }
+}
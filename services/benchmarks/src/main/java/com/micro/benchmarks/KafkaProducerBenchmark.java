@@ -0,0 +1,103 @@
+package com.micro.benchmarks;
+
+import com.micro.order.customer.CustomerResponse;
+import com.micro.order.kafka.OrderConfirmation;
+import com.micro.order.kafka.OrderConfirmationAvroSerializer;
+import com.micro.order.order.PaymentMethod;
+import com.micro.order.product.PurchaseResponse;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Events per second the order service's producer pushes to an embedded Kafka broker, with the Kafka client defaults
+ * and with the shared producer profile of {@code configurations/application.yml} (acks, linger, batch size, lz4).
+ * <p>
+ * Records are built like OrderProducer's: Avro values (OrderConfirmationAvroSerializer), keyed by order reference,
+ * to a six-partition order-topic. Every invocation sends {@value #EVENTS} events and flushes, so the score is
+ * events/s including the broker acknowledgements. The broker runs in the benchmark JVM on localhost: compression
+ * and batching pay off more over a real network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KafkaProducerBenchmark {
+
+    static final int EVENTS = 1000;
+    private static final String TOPIC = "order-topic";
+    private static final String PRODUCER_PREFIX = "spring.kafka.producer.";
+
+    @Param({"client-defaults", "shared-profile"})
+    public String profile;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private KafkaProducer<String, OrderConfirmation> producer;
+    private List<OrderConfirmation> events;
+
+    @Setup
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 6, TOPIC);
+        broker.afterPropertiesSet();
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        if (profile.equals("shared-profile")) {
+            // spring.kafka.producer.compression-type -> compression.type, ...; properties.* are passed as they are
+            SharedConfiguration.properties(PRODUCER_PREFIX).forEach((key, value) -> config.put(
+                    key.startsWith("properties.") ? key.substring("properties.".length()) : key.replace('-', '.'),
+                    value));
+        }
+        producer = new KafkaProducer<>(config, new StringSerializer(), new OrderConfirmationAvroSerializer());
+
+        events = new ArrayList<>(EVENTS);
+        var customer = new CustomerResponse("65f1c0ffee0000000000abcd", "Jane", "Doe", "jane.doe@example.com");
+        for (int i = 0; i < EVENTS; i++) {
+            var products = new ArrayList<PurchaseResponse>();
+            for (int p = 1; p <= 3; p++) {
+                products.add(new PurchaseResponse(p, "Product " + p, "Description of product " + p, new BigDecimal("19.99"), 1));
+            }
+            events.add(new OrderConfirmation("ORD-2024-" + (100_000 + i), new BigDecimal("59.97"),
+                    PaymentMethod.CREDIT_CARD, customer, products));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void sendOrderConfirmations() {
+        for (OrderConfirmation event : events) {
+            producer.send(new ProducerRecord<>(TOPIC, event.orderReference(), event));
+        }
+        producer.flush();
+    }
+
+    @TearDown
+    public void tearDown() {
+        producer.close();
+        broker.destroy();
+    }
+}
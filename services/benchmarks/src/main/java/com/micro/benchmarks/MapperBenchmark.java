@@ -0,0 +1,147 @@
+package com.micro.benchmarks;
+
+import com.micro.customer.customer.Address;
+import com.micro.customer.customer.Customer;
+import com.micro.customer.customer.CustomerMapper;
+import com.micro.customer.customer.CustomerRequest;
+import com.micro.customer.customer.CustomerResponse;
+import com.micro.order.order.Order;
+import com.micro.order.order.OrderHistoryResponse;
+import com.micro.order.order.OrderMapper;
+import com.micro.order.order.OrderRequest;
+import com.micro.order.order.OrderResponse;
+import com.micro.order.order.PaymentMethod;
+import com.micro.order.orderLine.OrderLine;
+import com.micro.order.product.PurchaseRequest;
+import com.micro.product.category.Category;
+import com.micro.product.product.Product;
+import com.micro.product.product.ProductMapper;
+import com.micro.product.product.ProductPurchaseResponse;
+import com.micro.product.product.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO/entity mapping of the order, product and customer services.
+ * <p>
+ * Each method maps one representative object, the way the mappers are called once per request
+ * (or once per element of a list endpoint).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final OrderMapper orderMapper = new OrderMapper();
+    private final ProductMapper productMapper = new ProductMapper();
+    private final CustomerMapper customerMapper = new CustomerMapper();
+
+    private OrderRequest orderRequest;
+    private Order order;
+    private Product product;
+    private CustomerRequest customerRequest;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        orderRequest = new OrderRequest(
+                null,
+                "ORD-2024-000123",
+                null,
+                PaymentMethod.CREDIT_CARD,
+                "65f1c0ffee0000000000abcd",
+                List.of(new PurchaseRequest(1, 2), new PurchaseRequest(2, 1), new PurchaseRequest(3, 5))
+        );
+
+        order = Order.builder()
+                .id(123)
+                .reference("ORD-2024-000123")
+                .totalAmount(new BigDecimal("149.85"))
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .customerId("65f1c0ffee0000000000abcd")
+                .createdDate(LocalDateTime.of(2024, 5, 1, 10, 15))
+                .build();
+        var lines = new ArrayList<OrderLine>();
+        for (int i = 0; i < 5; i++) {
+            lines.add(OrderLine.builder()
+                    .id(1000 + i)
+                    .order(order)
+                    .productId(i + 1)
+                    .quantity(i + 1)
+                    .unitPrice(new BigDecimal("9.99"))
+                    .build());
+        }
+        order.setOrderLines(lines);
+
+        product = Product.builder()
+                .id(42)
+                .name("Mechanical keyboard")
+                .description("Tenkeyless, brown switches")
+                .availableQuantity(250)
+                .price(new BigDecimal("89.90"))
+                .category(Category.builder().id(1).name("Keyboards").description("All keyboards").build())
+                .build();
+
+        var address = Address.builder().street("Main street").houseNumber("12").zipCode("10115").build();
+        customerRequest = new CustomerRequest("65f1c0ffee0000000000abcd", "Jane", "Doe", "jane.doe@example.com", address);
+        customer = customerMapper.toCustomer(customerRequest);
+    }
+
+    @Benchmark
+    public Order orderToEntity() {
+        return orderMapper.toOrder(orderRequest);
+    }
+
+    @Benchmark
+    public OrderResponse orderFromEntity() {
+        return orderMapper.fromOrder(order);
+    }
+
+    @Benchmark
+    public OrderHistoryResponse orderToHistoryResponse() {
+        return orderMapper.toOrderHistoryResponse(order);
+    }
+
+    @Benchmark
+    public ProductResponse productToResponse() {
+        return productMapper.toProductResponse(product);
+    }
+
+    @Benchmark
+    public ProductPurchaseResponse productToPurchaseResponse() {
+        return productMapper.toproductPurchaseResponse(product, 3);
+    }
+
+    @Benchmark
+    public Customer customerToEntity() {
+        return customerMapper.toCustomer(customerRequest);
+    }
+
+    @Benchmark
+    public CustomerResponse customerFromEntity() {
+        return customerMapper.fromCustomer(customer);
+    }
+
+    @Benchmark
+    public Update customerToUpdate() {
+        return customerMapper.toUpdate(customerRequest);
+    }
+}
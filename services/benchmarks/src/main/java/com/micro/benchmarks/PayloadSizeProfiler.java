@@ -0,0 +1,81 @@
+package com.micro.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Adds the encoded payload sizes of the {@link PayloadSizes} benchmarks ({@link KafkaPayloadBenchmark},
+ * {@link HttpPayloadBenchmark}) to the JMH results, so they reach {@code -rf json} instead of the console:
+ * {@code -prof com.micro.benchmarks.PayloadSizeProfiler}.
+ * <p>
+ * The sizes are constant, so they are averaged (not summed) over iterations and forks. Other benchmarks get no
+ * extra results.
+ */
+public class PayloadSizeProfiler implements InternalProfiler {
+
+    private String preparedFor; // benchmark class and parameters the payloads were built for
+    private PayloadSizes payloads;
+
+    @Override
+    public String getDescription() {
+        return "Encoded size per format of the payloads in KafkaPayloadBenchmark and HttpPayloadBenchmark";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(
+            BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+        String benchmark = benchmarkParams.getBenchmark();
+        int separator = benchmark.lastIndexOf('.');
+        PayloadSizes sizes = payloads(benchmark.substring(0, separator), benchmarkParams);
+        if (sizes == null) {
+            return List.of();
+        }
+        List<Result> results = new ArrayList<>();
+        new TreeMap<>(sizes.payloadSizes(benchmark.substring(separator + 1)))
+                .forEach((format, bytes) -> results.add(
+                        new ScalarResult("payload." + format, bytes, "bytes", AggregationPolicy.AVG)));
+        return results;
+    }
+
+    private PayloadSizes payloads(String benchmarkClass, BenchmarkParams benchmarkParams) {
+        StringBuilder key = new StringBuilder(benchmarkClass);
+        for (String param : benchmarkParams.getParamsKeys()) {
+            key.append(' ').append(param).append('=').append(benchmarkParams.getParam(param));
+        }
+        if (!key.toString().equals(preparedFor)) {
+            try {
+                Class<?> type = Class.forName(benchmarkClass);
+                PayloadSizes instance = null;
+                if (PayloadSizes.class.isAssignableFrom(type)) {
+                    instance = (PayloadSizes) type.getDeclaredConstructor().newInstance();
+                    instance.prepare(benchmarkParams);
+                }
+                payloads = instance;
+                preparedFor = key.toString();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException
+                     | InvocationTargetException e) {
+                throw new IllegalStateException("Cannot create " + benchmarkClass, e);
+            }
+        }
+        return payloads;
+    }
+}
@@ -0,0 +1,19 @@
+package com.micro.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A benchmark whose encoded payload sizes {@link PayloadSizeProfiler} adds to the JMH results.
+ * The profiler works on its own instance, created with the no-arg constructor.
+ */
+interface PayloadSizes {
+
+    /** Builds the payloads for the parameters of the running benchmark, like its {@code @Setup} method. */
+    void prepare(BenchmarkParams params) throws IOException;
+
+    /** Encoded size in bytes, by format, of the payload a benchmark method works on. */
+    Map<String, Integer> payloadSizes(String benchmarkMethod);
+}
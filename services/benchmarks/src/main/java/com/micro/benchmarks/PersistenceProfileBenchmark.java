@@ -0,0 +1,182 @@
+package com.micro.benchmarks;
+
+import com.micro.order.order.Order;
+import com.micro.order.order.PaymentMethod;
+import com.micro.order.orderLine.OrderLine;
+import com.micro.product.category.Category;
+import com.micro.product.product.Product;
+import com.micro.product.product.ProductMapper;
+import com.micro.product.product.ProductPurchaseRequest;
+import com.micro.product.product.ProductPurchaseResponse;
+import com.micro.product.product.ProductRepository;
+import com.micro.product.product.ProductService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The persistence work of OrderService.createOrder and ProductService.purchaseProducts against a real PostgreSQL,
+ * with and without the shared persistence profile of {@code configurations/application.yml}.
+ * <ul>
+ *   <li>{@code driver-defaults}: Hibernate and PostgreSQL JDBC driver defaults (one statement per row, no IN padding).</li>
+ *   <li>{@code shared-profile}: the driver and Hibernate settings read from the config server's application.yml
+ *       (JDBC batching, rewritten batched inserts, statement cache, IN padding), so the benchmark follows the file.</li>
+ * </ul>
+ * createOrder persists an order and its lines in one transaction, like the service does once the downstream calls
+ * returned. purchaseProducts runs the real ProductService on a Spring Data repository: one IN query, then one stock
+ * update per product at commit. PostgreSQL is an embedded instance on localhost, so network round trips are cheaper
+ * than in a deployment; the differences measured here are a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PersistenceProfileBenchmark {
+
+    private static final int PRODUCT_COUNT = 100;
+    private static final String DATA_SOURCE_PREFIX = "spring.datasource.hikari.data-source-properties.";
+    private static final String HIBERNATE_PREFIX = "spring.jpa.properties.";
+
+    @Param({"driver-defaults", "shared-profile"})
+    public String profile;
+
+    @Param({"5", "20"})
+    public int lineCount;
+
+    private EmbeddedPostgres postgres;
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private ProductService productService;
+    private List<Integer> productIds;
+    private List<ProductPurchaseRequest> purchaseRequest;
+    private long orderSequence;
+
+    @Setup
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        boolean shared = profile.equals("shared-profile");
+        Map<String, String> dataSourceProperties = shared ? SharedConfiguration.properties(DATA_SOURCE_PREFIX) : Map.of();
+        Map<String, String> hibernateProperties = shared ? SharedConfiguration.properties(HIBERNATE_PREFIX) : Map.of();
+
+        var hikari = new HikariConfig();
+        hikari.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        hikari.setUsername("postgres");
+        hikari.setPassword("postgres");
+        hikari.setMaximumPoolSize(1); // single-threaded benchmark; pool sizing is the load test's job
+        dataSourceProperties.forEach(hikari::addDataSourceProperty);
+        dataSource = new HikariDataSource(hikari);
+
+        var configuration = new Configuration()
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Product.class)
+                .addAnnotatedClass(Order.class)
+                .addAnnotatedClass(OrderLine.class);
+        configuration.getProperties().put(AvailableSettings.DATASOURCE, dataSource);
+        configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "create");
+        hibernateProperties.forEach(configuration::setProperty);
+        sessionFactory = configuration.buildSessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+
+        productIds = seedProducts();
+        var repository = new JpaRepositoryFactory(entityManager).getRepository(ProductRepository.class);
+        productService = new ProductService(repository, new ProductMapper());
+        var lines = new ArrayList<ProductPurchaseRequest>();
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new ProductPurchaseRequest(productIds.get(i * (PRODUCT_COUNT / lineCount)), 1));
+        }
+        Collections.shuffle(lines, new Random(42));
+        purchaseRequest = List.copyOf(lines);
+    }
+
+    @Benchmark
+    public Integer createOrder() {
+        entityManager.getTransaction().begin();
+        var order = Order.builder()
+                .reference("BENCH-" + (++orderSequence))
+                .totalAmount(BigDecimal.valueOf(1999L * lineCount, 2))
+                .paymentMethod(PaymentMethod.VISA)
+                .customerId("benchmark-customer")
+                .createdDate(LocalDateTime.now())
+                .build();
+        entityManager.persist(order);
+        for (int i = 0; i < lineCount; i++) {
+            entityManager.persist(OrderLine.builder()
+                    .order(order)
+                    .productId(productIds.get(i))
+                    .quantity(1)
+                    .unitPrice(BigDecimal.valueOf(1999, 2))
+                    .build());
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+        return order.getId();
+    }
+
+    @Benchmark
+    public List<ProductPurchaseResponse> purchaseProducts() {
+        entityManager.getTransaction().begin();
+        var purchased = productService.purchaseProducts(purchaseRequest);
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+        return purchased;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        entityManager.close();
+        sessionFactory.close();
+        dataSource.close();
+        postgres.close();
+    }
+
+    private List<Integer> seedProducts() {
+        entityManager.getTransaction().begin();
+        var category = Category.builder().name("Keyboards").description("Mechanical keyboards").build();
+        entityManager.persist(category);
+        var ids = new ArrayList<Integer>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            var product = Product.builder()
+                    .name("Product " + i)
+                    .description("Benchmark product " + i)
+                    .availableQuantity(1_000_000_000)
+                    .price(BigDecimal.valueOf(1999, 2))
+                    .category(category)
+                    .build();
+            entityManager.persist(product);
+            ids.add(product.getId());
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+        return List.copyOf(ids);
+    }
+}
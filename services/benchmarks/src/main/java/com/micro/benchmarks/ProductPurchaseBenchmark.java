@@ -0,0 +1,97 @@
+package com.micro.benchmarks;
+
+import com.micro.product.category.Category;
+import com.micro.product.product.Product;
+import com.micro.product.product.ProductMapper;
+import com.micro.product.product.ProductPurchaseRequest;
+import com.micro.product.product.ProductPurchaseResponse;
+import com.micro.product.product.ProductRepository;
+import com.micro.product.product.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductService.purchaseProducts without the database: request sorting, matching against the stored products,
+ * stock checks and response mapping.
+ * <p>
+ * The repository is an in-memory stand-in that returns fresh products (so stock never runs out between
+ * invocations) and ignores saves, which isolates the in-process cost from JDBC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPurchaseBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int lineCount;
+
+    private ProductService productService;
+    private List<ProductPurchaseRequest> request;
+
+    @Setup
+    public void setUp() {
+        var productIds = new ArrayList<Integer>();
+        var lines = new ArrayList<ProductPurchaseRequest>();
+        for (int i = 0; i < lineCount; i++) {
+            productIds.add(1000 + i);
+            lines.add(new ProductPurchaseRequest(1000 + i, 1 + i % 5));
+        }
+        // Clients send lines in any order; the service has to sort them to match the stored products
+        Collections.shuffle(lines, new Random(42));
+        this.request = List.copyOf(lines);
+        this.productService = new ProductService(inMemoryRepository(List.copyOf(productIds)), new ProductMapper());
+    }
+
+    @Benchmark
+    public List<ProductPurchaseResponse> purchaseProducts() {
+        return productService.purchaseProducts(request);
+    }
+
+    private static ProductRepository inMemoryRepository(List<Integer> sortedIds) {
+        var category = Category.builder().id(1).name("Keyboards").description("Mechanical keyboards").build();
+        return (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllByIdInOrderById" -> {
+                        var products = new ArrayList<Product>(sortedIds.size());
+                        for (Integer id : sortedIds) {
+                            products.add(Product.builder()
+                                    .id(id)
+                                    .name("Product " + id)
+                                    .description("Benchmark product " + id)
+                                    .availableQuantity(1_000_000)
+                                    .price(BigDecimal.valueOf(1999, 2))
+                                    .category(category)
+                                    .build());
+                        }
+                        yield products;
+                    }
+                    case "save" -> args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryProductRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
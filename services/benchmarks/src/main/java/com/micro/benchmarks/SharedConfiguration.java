@@ -0,0 +1,33 @@
+package com.micro.benchmarks;
+
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The config server's shared {@code configurations/application.yml}, copied into the jar by the build, so the
+ * benchmarks of the persistence and Kafka profiles measure exactly what the services get.
+ */
+final class SharedConfiguration {
+
+    private SharedConfiguration() {
+    }
+
+    /**
+     * @return the keys starting with {@code prefix}, without the prefix, with their values as strings
+     */
+    static Map<String, String> properties(String prefix) {
+        var yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("configurations/application.yml"));
+        Map<String, String> properties = new TreeMap<>();
+        yaml.getObject().forEach((key, value) -> {
+            String name = String.valueOf(key);
+            if (name.startsWith(prefix)) {
+                properties.put(name.substring(prefix.length()), String.valueOf(value));
+            }
+        });
+        return properties;
+    }
+}
@@ -0,0 +1,27 @@
+package com.micro.customer.config;
+
+import com.micro.customer.kafka.CustomerEventProducer;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaCustomerTopicConfig {
+
+    /**
+     * Compacted topic: Kafka keeps at least the latest event per customer id instead of deleting by age,
+     * so the topic always holds a complete snapshot of all customers.
+     */
+    @Bean
+    public NewTopic customerTopic(
+            @Value("${application.kafka.customer-topic.partitions:3}") int partitions
+    ) {
+        return TopicBuilder
+                .name(CustomerEventProducer.TOPIC)
+                .partitions(partitions)
+                .compact()
+                .build();
+    }
+}
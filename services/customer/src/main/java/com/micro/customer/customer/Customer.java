@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 
@@ -22,6 +24,15 @@ import org.springframework.data.mongodb.core.mapping.Document;
  *   <li>{@code @Getter} and {@code @Setter} - Automatically generate getter and setter methods for all fields.</li>
  * </ul>
  * The class contains basic identity and contact fields, such as customer ID, name, email, and address.
+ * {@code version} is incremented by every update and lets clients make conditional updates ({@code If-Match}).
+ * It is a plain field rather than {@code @Version}, because updates are applied as {@code $set}s, not full saves.
+ * <p>
+ * Indexes (created at startup by {@link CustomerIndexInitializer}):
+ * <ul>
+ *   <li>{@code email} – unique; backs lookup by email and rejects duplicate customers.</li>
+ *   <li>{@code lastname, firstname} – with a case-insensitive English collation; backs name search.
+ *   Queries must use the same collation ({@link #NAME_COLLATION}) to be able to use it.</li>
+ * </ul>
  */
 
 @AllArgsConstructor
@@ -30,12 +41,18 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Getter
 @Setter
 @Document
+@CompoundIndex(name = "lastname_firstname_ci", def = "{ 'lastname': 1, 'firstname': 1 }", collation = Customer.NAME_COLLATION)
 public class Customer {
 
+    /** Case-insensitive (strength 2 = ignore case, respect accents) collation of the name index. */
+    public static final String NAME_COLLATION = "{ 'locale': 'en', 'strength': 2 }";
+
     @Id
     private String id;
     private String firstname;
     private String lastname;
+    @Indexed(name = "email_unique", unique = true)
     private String email;
     private Address address;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.micro.customer.customer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one record of a bulk import or update, streamed back as one NDJSON line.
+ *
+ * @param line   1-based line number of the record in the request body
+ * @param id     the customer id (generated for created customers without one)
+ * @param status what happened to the record
+ * @param error  reason for {@code INVALID}, {@code NOT_FOUND} and {@code FAILED} results
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CustomerBulkResult(
+        long line,
+        String id,
+        Status status,
+        String error
+) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        NOT_FOUND,
+        INVALID,
+        FAILED
+    }
+
+    static CustomerBulkResult ok(long line, String id, Status status) {
+        return new CustomerBulkResult(line, id, status, null);
+    }
+
+    static CustomerBulkResult error(long line, String id, Status status, String error) {
+        return new CustomerBulkResult(line, id, status, error);
+    }
+}
@@ -0,0 +1,243 @@
+package com.micro.customer.customer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.micro.customer.kafka.CustomerChangeEvent;
+import com.micro.customer.kafka.CustomerEventProducer;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.common.util.StringUtils;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * CustomerBulkService
+ * -------------------
+ * Imports and updates customers from newline-delimited JSON streams.
+ *
+ * <p>
+ * Why do we need it?
+ * - Partner customer lists arrive with tens of thousands of records; one HTTP call and one Mongo
+ *   round-trip per customer turns an import into minutes of latency-bound work.
+ * </p>
+ *
+ * <p>
+ * How does it work?
+ * - The request body is read line by line, one {@link CustomerRequest} per line, and validated like the single-record endpoints.
+ * - Valid records are grouped into chunks of {@code chunkSize} and written with one <b>unordered</b> bulk write per chunk,
+ *   so Mongo applies them in parallel and a failing record does not stop the others.
+ * - Updates are partial {@code $set}s built by {@link CustomerMapper#toUpdate(CustomerRequest)}, with no read-before-write;
+ *   unknown ids are detected with one {@code $in} query per chunk.
+ * - One {@link CustomerBulkResult} per input line is written back after each chunk, so the caller sees progress while the import runs.
+ * - Created and updated customers are published to {@code customer-topic}; the new state of updated customers is read
+ *   back with one {@code $in} query per chunk.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CustomerBulkService {
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    @Value("${application.customers.bulk.chunk-size:1000}")
+    private int chunkSize; // Records per bulk write
+
+    private final MongoTemplate mongoTemplate;
+    private final CustomerRepository repository;
+    private final CustomerMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CustomerEventProducer eventProducer;
+
+    /**
+     * Creates every customer of the NDJSON stream {@code in}; records without an id get a generated one.
+     */
+    public void createCustomers(InputStream in, OutputStream out) throws IOException {
+        process(in, out, this::insertChunk);
+    }
+
+    /**
+     * Applies every update of the NDJSON stream {@code in}; only the non-blank fields of a record are changed.
+     */
+    public void updateCustomers(InputStream in, OutputStream out) throws IOException {
+        process(in, out, this::updateChunk);
+    }
+
+    private void process(InputStream in, OutputStream out, ChunkWriter chunkWriter) throws IOException {
+        ObjectReader requestReader = objectMapper.readerFor(CustomerRequest.class);
+        ObjectWriter resultWriter = objectMapper.writerFor(CustomerBulkResult.class);
+        var reader = new BufferedReader(new InputStreamReader(in, UTF_8));
+        var chunk = new ArrayList<Record>(chunkSize);
+
+        long lineNumber = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank()) {
+                continue;
+            }
+            chunk.add(parse(lineNumber, text, requestReader));
+            if (chunk.size() == chunkSize) {
+                writeResults(chunkWriter.write(chunk), out, resultWriter);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeResults(chunkWriter.write(chunk), out, resultWriter);
+        }
+        out.flush();
+    }
+
+    private List<CustomerBulkResult> insertChunk(List<Record> chunk) {
+        var results = new CustomerBulkResult[chunk.size()];
+        var customers = new ArrayList<Customer>(chunk.size());
+        var positions = new ArrayList<Integer>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            Record record = chunk.get(i);
+            if (record.error() != null) {
+                results[i] = CustomerBulkResult.error(record.line(), null, CustomerBulkResult.Status.INVALID, record.error());
+                continue;
+            }
+            Customer customer = mapper.toCustomer(record.request());
+            if (StringUtils.isBlank(customer.getId())) {
+                customer.setId(new ObjectId().toHexString());
+            }
+            customers.add(customer);
+            positions.add(i);
+        }
+
+        Map<Integer, String> failures = customers.isEmpty()
+                ? Map.of()
+                : execute(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class).insert(customers));
+
+        for (int op = 0; op < customers.size(); op++) {
+            Record record = chunk.get(positions.get(op));
+            String id = customers.get(op).getId();
+            String failure = failures.get(op);
+            if (failure == null) {
+                results[positions.get(op)] = CustomerBulkResult.ok(record.line(), id, CustomerBulkResult.Status.CREATED);
+                eventProducer.sendCustomerChanged(CustomerChangeEvent.ChangeType.CREATED, mapper.fromCustomer(customers.get(op)));
+            } else {
+                results[positions.get(op)] = CustomerBulkResult.error(record.line(), id, CustomerBulkResult.Status.FAILED, failure);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private List<CustomerBulkResult> updateChunk(List<Record> chunk) {
+        var results = new CustomerBulkResult[chunk.size()];
+        var ids = chunk.stream()
+                .filter(record -> record.error() == null && StringUtils.isNotBlank(record.request().id()))
+                .map(record -> record.request().id())
+                .toList();
+        var existing = ids.isEmpty() ? Set.<String>of() : repository.findExistingIds(ids);
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class);
+        var positions = new ArrayList<Integer>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Record record = chunk.get(i);
+            String id = record.request() != null ? record.request().id() : null;
+            if (record.error() != null) {
+                results[i] = CustomerBulkResult.error(record.line(), id, CustomerBulkResult.Status.INVALID, record.error());
+            } else if (StringUtils.isBlank(id)) {
+                results[i] = CustomerBulkResult.error(record.line(), null, CustomerBulkResult.Status.INVALID, "id: Customer id is required for updates");
+            } else if (!existing.contains(id)) {
+                results[i] = CustomerBulkResult.error(record.line(), id, CustomerBulkResult.Status.NOT_FOUND, "No customer found with the provided ID");
+            } else {
+                operations.updateOne(Query.query(Criteria.where("_id").is(id)), mapper.toUpdate(record.request()));
+                positions.add(i);
+            }
+        }
+
+        Map<Integer, String> failures = positions.isEmpty() ? Map.of() : execute(operations);
+
+        var updatedIds = new ArrayList<String>(positions.size());
+        for (int op = 0; op < positions.size(); op++) {
+            Record record = chunk.get(positions.get(op));
+            String failure = failures.get(op);
+            if (failure == null) {
+                results[positions.get(op)] = CustomerBulkResult.ok(record.line(), record.request().id(), CustomerBulkResult.Status.UPDATED);
+                updatedIds.add(record.request().id());
+            } else {
+                results[positions.get(op)] = CustomerBulkResult.error(record.line(), record.request().id(), CustomerBulkResult.Status.FAILED, failure);
+            }
+        }
+        if (!updatedIds.isEmpty()) {
+            mongoTemplate.find(Query.query(Criteria.where("_id").in(updatedIds)), Customer.class)
+                    .forEach(customer -> eventProducer.sendCustomerChanged(
+                            CustomerChangeEvent.ChangeType.UPDATED, mapper.fromCustomer(customer)));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Runs the bulk write and returns the failed operations (index within the bulk → error message).
+     */
+    private static Map<Integer, String> execute(BulkOperations operations) {
+        try {
+            operations.execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getMessage));
+        }
+    }
+
+    private Record parse(long line, String text, ObjectReader requestReader) {
+        CustomerRequest request;
+        try {
+            request = requestReader.readValue(text);
+        } catch (JsonProcessingException e) {
+            return new Record(line, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return new Record(line, request, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return new Record(line, request, null);
+    }
+
+    private static void writeResults(List<CustomerBulkResult> results, OutputStream out, ObjectWriter writer) throws IOException {
+        for (CustomerBulkResult result : results) {
+            out.write(writer.writeValueAsBytes(result));
+            out.write(NEW_LINE);
+        }
+        out.flush();
+    }
+
+    /** One parsed input line; {@code error} is set when the line can't be applied. */
+    private record Record(long line, CustomerRequest request, String error) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        List<CustomerBulkResult> write(List<Record> chunk);
+    }
+}
@@ -1,10 +1,18 @@
 package com.micro.customer.customer;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 
@@ -36,6 +44,7 @@ import java.util.List;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final CustomerBulkService customerBulkService;
     /**
      * Creates a new customer record.
      * <p>
@@ -65,25 +74,71 @@ public class CustomerController {
      * <p>
      * Handles HTTP PUT requests to {@code /api/v1/customers}. Expects a valid {@link CustomerRequest} object with the updated details.
      * The request is validated using Jakarta Bean Validation annotations. If validation passes, delegates to
-     * {@link CustomerService#updateCustomer(CustomerRequest)} to perform the update logic.
+     * {@link CustomerService#updateCustomer(CustomerRequest, Long)} to perform the update logic.
      * The method responds with a 202 Accepted status, indicating the request was received and will be processed (possibly asynchronously).
      * <ul>
      *   <li><b>Request Body:</b> {@link CustomerRequest} (validated automatically with {@code @Valid})</li>
-     *   <li><b>Response:</b> {@code 202 Accepted} (no content)</li>
+     *   <li><b>If-Match (optional):</b> the customer {@code version} the client last read; the update is rejected
+     *   with {@code 409 Conflict} if the customer has changed since</li>
+     *   <li><b>Response:</b> {@code 202 Accepted} (no content), {@code 404} if the customer does not exist</li>
      *   <li><b>Validation:</b> Any input validation errors trigger an error response before the method runs.</li>
      * </ul>
      *
      * @param request the validated customer update request data
+     * @param ifMatch expected version, plain or as a quoted ETag
      * @return empty response entity with status 202 Accepted
      */
     @PutMapping
     public ResponseEntity<Void> updateCustomer(
-            @RequestBody @Valid CustomerRequest request
+            @RequestBody @Valid CustomerRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        this.customerService.updateCustomer(request);
+        this.customerService.updateCustomer(request, parseVersion(ifMatch));
         return ResponseEntity.accepted().build();
     }
 
+    /**
+     * Creates many customers from a newline-delimited JSON stream.
+     * <p>
+     * Handles HTTP POST requests to {@code /api/v1/customers/bulk}. Each line is one {@link CustomerRequest},
+     * validated like {@link #createCustomer(CustomerRequest)}; valid records are written with chunked unordered bulk inserts.
+     * <ul>
+     *   <li><b>Request Body:</b> {@code application/x-ndjson}, one customer per line</li>
+     *   <li><b>Response:</b> {@code 200 OK}, {@code application/x-ndjson}, one {@link CustomerBulkResult} per input line,
+     *   streamed as each chunk is written</li>
+     * </ul>
+     *
+     * @param body the raw request body
+     * @return the streamed per-record results
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createCustomers(InputStream body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> this.customerBulkService.createCustomers(body, out));
+    }
+
+    /**
+     * Updates many customers from a newline-delimited JSON stream.
+     * <p>
+     * Handles HTTP PUT requests to {@code /api/v1/customers/bulk}. Each line is one {@link CustomerRequest} with an id;
+     * only its non-blank fields are changed, with chunked unordered bulk updates.
+     * <ul>
+     *   <li><b>Request Body:</b> {@code application/x-ndjson}, one customer per line</li>
+     *   <li><b>Response:</b> {@code 200 OK}, {@code application/x-ndjson}, one {@link CustomerBulkResult} per input line
+     *   ({@code UPDATED}, {@code NOT_FOUND}, {@code INVALID} or {@code FAILED})</li>
+     * </ul>
+     *
+     * @param body the raw request body
+     * @return the streamed per-record results
+     */
+    @PutMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> updateCustomers(InputStream body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> this.customerBulkService.updateCustomers(body, out));
+    }
+
     /**
      * Retrieves all customers.
      * <p>
@@ -101,6 +156,108 @@ public class CustomerController {
         return ResponseEntity.ok(this.customerService.findAllCustomers());
     }
 
+    /**
+     * Retrieves customers one page at a time.
+     * <p>
+     * Handles HTTP GET requests to {@code /api/v1/customers/page}. Pages are ordered by id; pass the
+     * {@code nextCursor} of a page as {@code cursor} to get the following one.
+     * <ul>
+     *   <li><b>Query Params:</b> {@code cursor} (optional), {@code size} (1–1000, default 100)</li>
+     *   <li><b>Response:</b> {@code 200 OK} with a {@link CustomerPage}</li>
+     * </ul>
+     *
+     * @param cursor id after which the page starts, absent for the first page
+     * @param size   maximum number of customers on the page
+     * @return the requested page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CustomerPage> findPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") @Min(1) @Max(1000) int size
+    ) {
+        return ResponseEntity.ok(this.customerService.findCustomerPage(cursor, size));
+    }
+
+    /**
+     * Exports all customers as newline-delimited JSON.
+     * <p>
+     * Handles HTTP GET requests to {@code /api/v1/customers/export}. The body is streamed from a Mongo cursor
+     * while it is being read, so exports of any size use constant memory.
+     * <ul>
+     *   <li><b>Response:</b> {@code 200 OK}, {@code application/x-ndjson}, one {@link CustomerResponse} per line</li>
+     * </ul>
+     *
+     * @return the streaming response body
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(this.customerService::exportCustomers);
+    }
+
+    /**
+     * Finds many customers by ID.
+     * <p>
+     * Handles HTTP POST requests to {@code /api/v1/customers/by-ids}. All customers are loaded with one database query,
+     * e.g. to validate every customer of a batch of orders in one call.
+     * <ul>
+     *   <li><b>Request Body:</b> {@link CustomerIdsRequest} with up to 1000 IDs</li>
+     *   <li><b>Response:</b> {@code 200 OK} with the customers found; unknown IDs are omitted</li>
+     * </ul>
+     *
+     * @param request the IDs to load
+     * @return the customers found
+     */
+    @PostMapping("/by-ids")
+    public ResponseEntity<List<CustomerResponse>> findAllByIds(
+            @RequestBody @Valid CustomerIdsRequest request
+    ) {
+        return ResponseEntity.ok(this.customerService.findAllByIds(request.ids()));
+    }
+
+    /**
+     * Finds a customer by email.
+     * <p>
+     * Handles HTTP GET requests to {@code /api/v1/customers/search/by-email}; backed by the unique email index.
+     * <ul>
+     *   <li><b>Query Param:</b> {@code email}</li>
+     *   <li><b>Response:</b> {@code 200 OK} with customer data, or 404 if not found</li>
+     * </ul>
+     *
+     * @param email the email to look up
+     * @return the matching customer
+     */
+    @GetMapping("/search/by-email")
+    public ResponseEntity<CustomerResponse> findByEmail(
+            @RequestParam("email") String email
+    ) {
+        return ResponseEntity.ok(this.customerService.findByEmail(email));
+    }
+
+    /**
+     * Searches customers by name, ignoring case.
+     * <p>
+     * Handles HTTP GET requests to {@code /api/v1/customers/search}; backed by the case-insensitive name index.
+     * <ul>
+     *   <li><b>Query Params:</b> {@code lastname} (required), {@code firstname} (optional), {@code size} (1–100, default 20)</li>
+     *   <li><b>Response:</b> {@code 200 OK} with the matching customers, ordered by last name then first name</li>
+     * </ul>
+     *
+     * @param lastname  last name to match
+     * @param firstname first name to match
+     * @param size      maximum number of results
+     * @return matching customers
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<CustomerResponse>> searchByName(
+            @RequestParam("lastname") String lastname,
+            @RequestParam(value = "firstname", required = false) String firstname,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(this.customerService.searchByName(lastname, firstname, size));
+    }
+
     /**
      * Checks existence of a customer by ID.
      * <p>
@@ -121,6 +278,26 @@ public class CustomerController {
         return ResponseEntity.ok(this.customerService.existsById(customerId));
     }
 
+    /**
+     * Checks existence of many customers at once.
+     * <p>
+     * Handles HTTP POST requests to {@code /api/v1/customers/exists}. All IDs are resolved with one database query,
+     * so bulk validation jobs need a single call instead of one per customer.
+     * <ul>
+     *   <li><b>Request Body:</b> {@link CustomerExistsRequest} with up to 1000 IDs</li>
+     *   <li><b>Response:</b> {@code 200 OK} with one boolean per ID, in request order</li>
+     * </ul>
+     *
+     * @param request the IDs to check
+     * @return existence flags aligned with {@code request.ids()}
+     */
+    @PostMapping("/exists")
+    public ResponseEntity<List<Boolean>> existsByIds(
+            @RequestBody @Valid CustomerExistsRequest request
+    ) {
+        return ResponseEntity.ok(this.customerService.existsByIds(request.ids()));
+    }
+
     /**
      * Finds a customer by ID.
      * <p>
@@ -164,8 +341,18 @@ public class CustomerController {
         return ResponseEntity.accepted().build();
     }
 
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        var value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        try {
+            return Long.valueOf(value.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match must contain a customer version");
+        }
+    }
 }
-
-
-
-
@@ -0,0 +1,17 @@
+package com.micro.customer.customer;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request payload of the batch existence check.
+ *
+ * @param ids customer ids to check; the answer keeps the same order
+ */
+public record CustomerExistsRequest(
+        @NotEmpty(message = "At least one customer id is required")
+        @Size(max = 1000, message = "At most 1000 customer ids can be checked per request")
+        List<String> ids
+) {}
@@ -0,0 +1,17 @@
+package com.micro.customer.customer;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request payload for fetching many customers at once.
+ *
+ * @param ids customer ids to load
+ */
+public record CustomerIdsRequest(
+        @NotEmpty(message = "At least one customer id is required")
+        @Size(max = 1000, message = "At most 1000 customers can be fetched per request")
+        List<String> ids
+) {}
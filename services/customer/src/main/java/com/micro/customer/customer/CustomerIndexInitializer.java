@@ -0,0 +1,52 @@
+package com.micro.customer.customer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * CustomerIndexInitializer
+ * ------------------------
+ * Creates the indexes declared on {@link Customer} ({@code @Indexed}, {@code @CompoundIndex}) when the service starts.
+ *
+ * <p>
+ * Why do we need it?
+ * - Spring Boot turns Mongo's automatic index creation off by default, so the annotations alone create nothing.
+ * - The search endpoints rely on these indexes; without them every search is a collection scan.
+ * </p>
+ *
+ * <p>
+ * How does it work?
+ * - Resolves the index definitions from the mapping metadata and calls {@code createIndex} for each of them
+ *   before the web server accepts requests. Existing identical indexes are left untouched.
+ * - If an index can't be built (e.g. duplicate emails already stored) startup fails, instead of serving slow or
+ *   inconsistent searches. Set {@code application.customers.indexes.create-on-startup=false} to manage indexes externally.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerIndexInitializer implements InitializingBean {
+
+    @Value("${application.customers.indexes.create-on-startup:true}")
+    private boolean createOnStartup;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!createOnStartup) {
+            return;
+        }
+        var resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        var indexOperations = mongoTemplate.indexOps(Customer.class);
+        resolver.resolveIndexFor(Customer.class).forEach(index -> {
+            String name = indexOperations.createIndex(index);
+            log.info("Index {} in place on collection {}", name, mongoTemplate.getCollectionName(Customer.class));
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package com.micro.customer.customer;
 
+import io.micrometer.common.util.StringUtils;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 
@@ -12,6 +14,8 @@ import org.springframework.stereotype.Component;
  *   Used for creating new customers from client API requests. Copies relevant properties using the builder pattern.</li>
  *   <li><b>fromCustomer:</b> Converts a {@link Customer} entity to a {@link CustomerResponse} DTO.
  *   Used for sending customer data to clients in API responses. Copies all appropriate fields.</li>
+ *   <li><b>toUpdate:</b> Converts a {@link CustomerRequest} into a partial Mongo {@code $set} update.
+ *   Used to change a stored customer without reading it first.</li>
  * </ul>
  * Having a mapping layer centralizes conversion logic, ensuring request/response objects are
  * decoupled from internal entity models. This improves code maintainability and testability.
@@ -35,6 +39,7 @@ public class CustomerMapper {
                 .lastname(request.lastname())
                 .email(request.email())
                 .address(request.address())
+                .version(0L)
                 .build();
     }
 
@@ -51,9 +56,31 @@ public class CustomerMapper {
                 customer.getFirstname(),
                 customer.getLastname(),
                 customer.getEmail(),
-                customer.getAddress()
+                customer.getAddress(),
+                customer.getVersion() != null ? customer.getVersion() : 0L
         );
     }
-}
-
 
+    /**
+     * Converts a CustomerRequest into a {@code $set} of its non-blank fields, so a customer can be updated
+     * in place without loading it first. Fields that are blank or absent keep their stored value.
+     * Every update also increments the customer's {@code version}.
+     */
+    public Update toUpdate(CustomerRequest request) {
+        var update = new Update();
+        if (StringUtils.isNotBlank(request.firstname())) {
+            update.set("firstname", request.firstname());
+        }
+        if (StringUtils.isNotBlank(request.lastname())) {
+            update.set("lastname", request.lastname());
+        }
+        if (StringUtils.isNotBlank(request.email())) {
+            update.set("email", request.email());
+        }
+        if (request.address() != null) {
+            update.set("address", request.address());
+        }
+        update.inc("version", 1);
+        return update;
+    }
+}
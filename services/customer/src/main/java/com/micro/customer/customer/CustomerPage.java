@@ -0,0 +1,14 @@
+package com.micro.customer.customer;
+
+import java.util.List;
+
+/**
+ * One page of customers returned by cursor-based listing.
+ *
+ * @param content    customers of this page, ordered by id
+ * @param nextCursor value to pass as {@code cursor} to fetch the next page; {@code null} on the last page
+ */
+public record CustomerPage(
+        List<CustomerResponse> content,
+        String nextCursor
+) {}
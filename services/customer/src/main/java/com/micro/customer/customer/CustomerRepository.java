@@ -1,8 +1,13 @@
 package com.micro.customer.customer;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Collation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for managing {@link Customer} entities in MongoDB.
  * <p>
@@ -14,7 +19,18 @@ import org.springframework.stereotype.Component;
  *   <li>Integrates with Spring Data MongoDB for automatic implementation and dependency injection.</li>
  *   <li>The first generic parameter is the entity type (Customer), the second is the ID type (String).</li>
  * </ul>
- * Custom query methods can be added here if advanced database queries are needed.
+ * Queries that need MongoTemplate (cursor batch sizes, projections) live in {@link CustomerRepositoryCustom}.
  */
-public interface CustomerRepository extends MongoRepository<Customer, String> {
+public interface CustomerRepository extends MongoRepository<Customer, String>, CustomerRepositoryCustom {
+
+    /** Exact email lookup, answered by the unique {@code email} index. */
+    Optional<Customer> findByEmail(String email);
+
+    /** Case-insensitive lastname search, answered by the {@code lastname_firstname_ci} index. */
+    @Collation(Customer.NAME_COLLATION)
+    List<Customer> findByLastname(String lastname, Pageable pageable);
+
+    /** Case-insensitive lastname + firstname search, answered by the {@code lastname_firstname_ci} index. */
+    @Collation(Customer.NAME_COLLATION)
+    List<Customer> findByLastnameAndFirstname(String lastname, String firstname, Pageable pageable);
 }
@@ -0,0 +1,34 @@
+package com.micro.customer.customer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Hand-written queries of {@link CustomerRepository} that derived query methods can't express
+ * (cursor batch sizes, field projections, keyset pagination).
+ * <p>
+ * Implemented by {@link CustomerRepositoryCustomImpl}; Spring Data merges it into the repository proxy.
+ */
+public interface CustomerRepositoryCustom {
+
+    /**
+     * Returns up to {@code size} customers ordered by id, starting strictly after {@code afterId}.
+     *
+     * @param afterId last id of the previous page, or {@code null} for the first page
+     * @param size    maximum number of customers to return
+     */
+    List<Customer> findPageAfter(String afterId, int size);
+
+    /**
+     * Streams every customer over a server-side cursor, fetching {@code batchSize} documents per round-trip.
+     * The stream holds the cursor open and must be closed by the caller.
+     */
+    Stream<Customer> streamAll(int batchSize);
+
+    /**
+     * Returns which of the given ids exist, using one {@code $in} query answered from the {@code _id} index.
+     */
+    Set<String> findExistingIds(Collection<String> ids);
+}
@@ -0,0 +1,61 @@
+package com.micro.customer.customer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate-based implementation of {@link CustomerRepositoryCustom}.
+ *
+ * <p>
+ * Both queries walk the {@code _id} index in order and project only the fields exposed by
+ * {@link CustomerResponse}, so Mongo never has to sort in memory and no unused fields travel over the wire.
+ * </p>
+ */
+@RequiredArgsConstructor
+class CustomerRepositoryCustomImpl implements CustomerRepositoryCustom {
+
+    private static final String ID = "_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Customer> findPageAfter(String afterId, int size) {
+        Query query = afterId == null
+                ? new Query()
+                : Query.query(Criteria.where(ID).gt(afterId));
+        query.with(Sort.by(Sort.Direction.ASC, ID)).limit(size);
+        return mongoTemplate.find(project(query), Customer.class);
+    }
+
+    @Override
+    public Stream<Customer> streamAll(int batchSize) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, ID))
+                .cursorBatchSize(batchSize);
+        return mongoTemplate.stream(project(query), Customer.class);
+    }
+
+    @Override
+    public Set<String> findExistingIds(Collection<String> ids) {
+        Query query = Query.query(Criteria.where(ID).in(ids));
+        query.fields().include(ID);
+        return mongoTemplate.find(query, Customer.class)
+                .stream()
+                .map(Customer::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private static Query project(Query query) {
+        query.fields().include(ID, "firstname", "lastname", "email", "address", "version");
+        return query;
+    }
+}
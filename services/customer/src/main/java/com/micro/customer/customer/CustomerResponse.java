@@ -17,7 +17,8 @@ public record CustomerResponse(
         String firstname,
         String lastname,
         String email,
-        Address address
+        Address address,
+        long version
 ) {}
 
 
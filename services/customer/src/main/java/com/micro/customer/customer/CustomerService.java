@@ -1,13 +1,27 @@
 package com.micro.customer.customer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.micro.customer.customer.exception.CustomerNotFoundException;
-import io.micrometer.common.util.StringUtils;
+import com.micro.customer.customer.exception.CustomerVersionConflictException;
+import com.micro.customer.kafka.CustomerChangeEvent;
+import com.micro.customer.kafka.CustomerEventProducer;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 /**
@@ -30,10 +44,16 @@ import static java.lang.String.format;
  * <b>Key Methods:</b>
  * <ul>
  *   <li>{@link #createCustomer(CustomerRequest)} – Saves a new customer and returns its ID.</li>
- *   <li>{@link #updateCustomer(CustomerRequest)} – Updates a customer, throws if not found.</li>
+ *   <li>{@link #updateCustomer(CustomerRequest, Long)} – Updates a customer in place, throws if not found or changed concurrently.</li>
  *   <li>{@link #findAllCustomers()} – Retrieves all customers as response DTOs.</li>
+ *   <li>{@link #findCustomerPage(String, int)} – Returns one id-ordered page and the cursor of the next one.</li>
+ *   <li>{@link #exportCustomers(OutputStream)} – Streams every customer as NDJSON over a Mongo cursor.</li>
  *   <li>{@link #findById(String)} – Returns a customer by ID or throws if not found.</li>
+ *   <li>{@link #findAllByIds(List)} – Returns the customers with the given IDs using one query.</li>
+ *   <li>{@link #findByEmail(String)} – Returns the customer with this email or throws if not found.</li>
+ *   <li>{@link #searchByName(String, String, int)} – Case-insensitive search by last name (and first name).</li>
  *   <li>{@link #existsById(String)} – Checks if a customer with this ID exists.</li>
+ *   <li>{@link #existsByIds(List)} – Checks many IDs with a single query.</li>
  *   <li>{@link #deleteCustomer(String)} – Deletes a customer by ID.</li>
  * </ul>
  *
@@ -54,8 +74,16 @@ import static java.lang.String.format;
 public class CustomerService
 {
 
+    private static final byte[] NEW_LINE = {'\n'};
+
+    @Value("${application.customers.export.batch-size:500}")
+    private int exportBatchSize; // Documents fetched per cursor round-trip (and per flush) during export
+
     private final CustomerRepository repository;
     private final CustomerMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final MongoTemplate mongoTemplate;
+    private final CustomerEventProducer eventProducer;
 
     /**
      * Creates and persists a new customer based on request data.
@@ -65,41 +93,49 @@ public class CustomerService
      */
     public String createCustomer(CustomerRequest request) {
         var customer = this.repository.save(mapper.toCustomer(request));
+        this.eventProducer.sendCustomerChanged(CustomerChangeEvent.ChangeType.CREATED, mapper.fromCustomer(customer));
         return customer.getId();
     }
 
     /**
-     * Updates the details of an existing customer.
-     *
-     * @param request a {@link CustomerRequest} DTO with the updated data and the customer ID to update
-     * @throws CustomerNotFoundException if the customer with the specified ID does not exist
-     */
-    public void updateCustomer(CustomerRequest request) {
-        var customer = this.repository.findById(request.id())
-                .orElseThrow(() -> new CustomerNotFoundException(
-                        format("Cannot update customer:: No customer found with the provided ID: %s", request.id())
-                ));
-        mergeCustomer(customer, request);
-        this.repository.save(customer);
-    }
-
-    /**
-     * Merges updated fields from the request into the existing customer entity.
-     * Updates only the fields provided (non-blank/nonnull).
+     * Updates the details of an existing customer with a single atomic {@code $set}.
+     * <p>
+     * Only the non-blank fields of the request are written (see {@link CustomerMapper#toUpdate(CustomerRequest)}),
+     * and the stored {@code version} is incremented. There is no read-before-write, so a successful update costs
+     * one round-trip and concurrent updates of different fields can't overwrite each other.
+     * The update returns the new document, which is published to {@code customer-topic}.
      *
-     * @param customer the {@link Customer} entity to update
-     * @param request  the {@link CustomerRequest} containing updated customer info
+     * @param request         a {@link CustomerRequest} DTO with the updated data and the customer ID to update
+     * @param expectedVersion version the client last read, or {@code null} to update unconditionally
+     * @throws CustomerNotFoundException        if the customer with the specified ID does not exist
+     * @throws CustomerVersionConflictException if {@code expectedVersion} no longer matches the stored customer
      */
-    private void mergeCustomer(Customer customer, CustomerRequest request) {
-        if (StringUtils.isNotBlank(request.firstname())) {
-            customer.setFirstname(request.firstname());
+    public void updateCustomer(CustomerRequest request, Long expectedVersion) {
+        var criteria = Criteria.where("_id").is(request.id());
+        if (expectedVersion != null) {
+            // Customers stored before versioning have no version field; they count as version 0
+            criteria = expectedVersion == 0
+                    ? criteria.and("version").in(0L, null)
+                    : criteria.and("version").is(expectedVersion);
         }
-        if (StringUtils.isNotBlank(request.email())) {
-            customer.setEmail(request.email());
+        var updated = this.mongoTemplate.findAndModify(
+                Query.query(criteria),
+                mapper.toUpdate(request),
+                FindAndModifyOptions.options().returnNew(true),
+                Customer.class
+        );
+        if (updated != null) {
+            this.eventProducer.sendCustomerChanged(CustomerChangeEvent.ChangeType.UPDATED, mapper.fromCustomer(updated));
+            return;
         }
-        if (request.address() != null) {
-            customer.setAddress(request.address());
+        if (expectedVersion != null && this.repository.existsById(request.id())) {
+            throw new CustomerVersionConflictException(
+                    format("Cannot update customer:: Customer %s was modified concurrently (expected version %d)", request.id(), expectedVersion)
+            );
         }
+        throw new CustomerNotFoundException(
+                format("Cannot update customer:: No customer found with the provided ID: %s", request.id())
+        );
     }
 
     /**
@@ -114,6 +150,51 @@ public class CustomerService
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns one page of customers using keyset (cursor) pagination on the id.
+     * <p>
+     * Unlike skip/limit, every page costs the same: Mongo seeks the {@code _id} index to {@code cursor}
+     * and reads {@code size} entries, no matter how deep into the collection the client is.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size   maximum number of customers on the page
+     * @return the page and the cursor of the following one ({@code null} when there is none)
+     */
+    public CustomerPage findCustomerPage(String cursor, int size) {
+        var customers = this.repository.findPageAfter(cursor, size)
+                .stream()
+                .map(this.mapper::fromCustomer)
+                .toList();
+        var nextCursor = customers.size() < size ? null : customers.get(customers.size() - 1).id();
+        return new CustomerPage(customers, nextCursor);
+    }
+
+    /**
+     * Writes every customer to {@code out} as newline-delimited JSON.
+     * <p>
+     * Documents are read over a single server-side cursor in batches of {@code exportBatchSize} and written
+     * one by one, so memory use does not grow with the collection and the first records reach the client
+     * as soon as the first batch arrives.
+     *
+     * @param out the response stream
+     * @throws IOException if the client goes away mid-export
+     */
+    public void exportCustomers(OutputStream out) throws IOException {
+        var writer = this.objectMapper.writerFor(CustomerResponse.class);
+        try (Stream<Customer> customers = this.repository.streamAll(exportBatchSize)) {
+            Iterator<Customer> iterator = customers.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(this.mapper.fromCustomer(iterator.next())));
+                out.write(NEW_LINE);
+                if (++written % exportBatchSize == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        }
+    }
+
     /**
      * Finds a customer by their unique ID.
      *
@@ -127,15 +208,75 @@ public class CustomerService
                 .orElseThrow(() -> new CustomerNotFoundException(String.format("No customer found with the provided ID: %s", id)));
     }
 
+    /**
+     * Finds many customers by ID with a single {@code $in} query.
+     * Unknown IDs are skipped, so the result may be shorter than {@code ids}.
+     *
+     * @param ids the unique IDs of the customers
+     * @return the customers found, in no particular order
+     */
+    public List<CustomerResponse> findAllByIds(List<String> ids) {
+        return this.repository.findAllById(ids)
+                .stream()
+                .map(this.mapper::fromCustomer)
+                .toList();
+    }
+
+    /**
+     * Finds a customer by email using the unique {@code email} index.
+     *
+     * @param email the customer's email address
+     * @return a {@link CustomerResponse} DTO for the matched customer
+     * @throws CustomerNotFoundException if no customer has this email
+     */
+    public CustomerResponse findByEmail(String email) {
+        return this.repository.findByEmail(email)
+                .map(mapper::fromCustomer)
+                .orElseThrow(() -> new CustomerNotFoundException(String.format("No customer found with the provided email: %s", email)));
+    }
+
+    /**
+     * Searches customers by last name and, optionally, first name, ignoring case.
+     * Results are ordered by last name then first name, the order of the backing index, so no in-memory sort is needed.
+     *
+     * @param lastname  last name to match
+     * @param firstname first name to match, or {@code null}/blank to match any
+     * @param size      maximum number of results
+     * @return matching customers
+     */
+    public List<CustomerResponse> searchByName(String lastname, String firstname, int size) {
+        var page = PageRequest.of(0, size, Sort.by("lastname", "firstname"));
+        var customers = firstname == null || firstname.isBlank()
+                ? this.repository.findByLastname(lastname, page)
+                : this.repository.findByLastnameAndFirstname(lastname, firstname, page);
+        return customers.stream()
+                .map(this.mapper::fromCustomer)
+                .toList();
+    }
+
     /**
      * Checks whether a customer exists in the system by ID.
+     * <p>
+     * Runs an id-only query limited to one result, so the document itself is never loaded or decoded.
      *
      * @param id the unique ID of the customer
      * @return {@code true} if a customer exists with the given ID, {@code false} otherwise
      */
     public boolean existsById(String id) {
-        return this.repository.findById(id)
-                .isPresent();
+        return this.repository.existsById(id);
+    }
+
+    /**
+     * Checks the existence of many customers with a single {@code $in} query projected on {@code _id}.
+     *
+     * @param ids the customer IDs to check
+     * @return one flag per requested ID, in request order
+     */
+    public List<Boolean> existsByIds(List<String> ids) {
+        var existing = this.repository.findExistingIds(ids);
+        return ids.stream()
+                .map(existing::contains)
+                .toList();
     }
 
     /**
@@ -145,6 +286,7 @@ public class CustomerService
      */
     public void deleteCustomer(String id) {
         this.repository.deleteById(id);
+        this.eventProducer.sendCustomerDeleted(id);
     }
 
 }
@@ -0,0 +1,18 @@
+package com.micro.customer.customer.exception;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Exception thrown when an update carries an expected version ({@code If-Match}) that no longer
+ * matches the stored customer, i.e. someone else changed the customer in the meantime.
+ * <p>
+ * Mapped to {@code 409 CONFLICT} by the global exception handler; the client should re-read the customer and retry.
+ * </p>
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+public class CustomerVersionConflictException extends RuntimeException {
+
+    private final String msg;
+}
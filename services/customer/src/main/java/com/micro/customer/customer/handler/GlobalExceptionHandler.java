@@ -2,6 +2,8 @@ package com.micro.customer.customer.handler;
 
 
 import com.micro.customer.customer.exception.CustomerNotFoundException;
+import com.micro.customer.customer.exception.CustomerVersionConflictException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -60,6 +62,18 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
  *       <li>Returns a {@code 404 NOT FOUND} response with the exception message as the body.</li>
  *     </ul>
  *   </li>
+ *   <li><b>handle(CustomerVersionConflictException exp):</b>
+ *     <ul>
+ *       <li>Handles conditional updates whose {@code If-Match} version is stale.</li>
+ *       <li>Returns a {@code 409 CONFLICT} response with the exception message as the body.</li>
+ *     </ul>
+ *   </li>
+ *   <li><b>handle(DuplicateKeyException exp):</b>
+ *     <ul>
+ *       <li>Handles writes rejected by the unique email index.</li>
+ *       <li>Returns a {@code 409 CONFLICT} response.</li>
+ *     </ul>
+ *   </li>
  *   <li><b>handleMethodArgumentNotValidException(MethodArgumentNotValidException exp):</b>
  *     <ul>
  *       <li>Handles validation errors on request bodies.</li>
@@ -89,6 +103,20 @@ public class GlobalExceptionHandler {
                 .body(exp.getMsg());
     }
 
+    @ExceptionHandler(CustomerVersionConflictException.class)
+    public ResponseEntity<String> handle(CustomerVersionConflictException exp) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(exp.getMsg());
+    }
+
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<String> handle(DuplicateKeyException exp) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body("A customer with the same email already exists");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException exp) {
         var errors = new HashMap<String, String>();
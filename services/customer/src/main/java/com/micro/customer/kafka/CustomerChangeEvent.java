@@ -0,0 +1,24 @@
+package com.micro.customer.kafka;
+
+import com.micro.customer.customer.CustomerResponse;
+
+import java.time.Instant;
+
+/**
+ * Event published to {@code customer-topic} after a customer was created or updated, keyed by customer id.
+ * <p>
+ * It carries the full new state of the customer, so consumers can keep a local replica without calling back.
+ * {@code customer.version()} increases with every change; consumers should ignore events older than what they hold.
+ * Deletions are published as tombstones (key with a {@code null} value), which also lets Kafka compaction drop the customer.
+ */
+public record CustomerChangeEvent(
+        ChangeType type,
+        CustomerResponse customer,
+        Instant occurredAt
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED
+    }
+}
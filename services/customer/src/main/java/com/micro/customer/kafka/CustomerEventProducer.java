@@ -0,0 +1,62 @@
+package com.micro.customer.kafka;
+
+import com.micro.customer.customer.CustomerResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * CustomerEventProducer
+ * ---------------------
+ * Publishes customer changes to the compacted {@code customer-topic}.
+ *
+ * <p>
+ * Why do we need it?
+ * - Services that cache customer data (order, notification) otherwise can't know when a customer changed
+ *   and have to fall back to short cache TTLs.
+ * </p>
+ *
+ * <p>
+ * How does it work?
+ * - Every record is keyed by customer id: all changes of a customer land on the same partition in order,
+ *   and compaction keeps only the latest state per customer, so a new consumer can rebuild a full replica
+ *   by reading the topic from the beginning.
+ * - Creates and updates carry the new state ({@link CustomerChangeEvent}); deletes are tombstones.
+ * - Sends are asynchronous and happen after the Mongo write; a failed send is logged and does not fail the request.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerEventProducer {
+
+    public static final String TOPIC = "customer-topic";
+
+    private final KafkaTemplate<String, CustomerChangeEvent> kafkaTemplate;
+
+    /**
+     * Publishes the new state of a created or updated customer.
+     */
+    public void sendCustomerChanged(CustomerChangeEvent.ChangeType type, CustomerResponse customer) {
+        send(customer.id(), new CustomerChangeEvent(type, customer, Instant.now()));
+    }
+
+    /**
+     * Publishes a tombstone for a deleted customer.
+     */
+    public void sendCustomerDeleted(String customerId) {
+        send(customerId, null);
+    }
+
+    private void send(String customerId, CustomerChangeEvent event) {
+        kafkaTemplate.send(TOPIC, customerId, event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to publish change of customer {} to {}", customerId, TOPIC, ex);
+                    }
+                });
+    }
+}
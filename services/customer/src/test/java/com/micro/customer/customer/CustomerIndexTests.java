@@ -0,0 +1,136 @@
+package com.micro.customer.customer;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataMongoTest(properties = {
+		"de.flapdoodle.mongodb.embedded.version=7.0.12",
+		"spring.cloud.config.enabled=false"
+})
+@Import({CustomerIndexInitializer.class, CustomerIndexTests.CapturedCommands.class})
+class CustomerIndexTests {
+
+	private static final List<BsonDocument> FIND_COMMANDS = new CopyOnWriteArrayList<>();
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private CustomerRepository repository;
+
+	@BeforeEach
+	void seed() {
+		repository.deleteAll();
+		FIND_COMMANDS.clear();
+		repository.saveAll(List.of(
+				customer("Ada", "Lovelace", "ada@example.com"),
+				customer("Alan", "Turing", "alan@example.com"),
+				customer("Grace", "Hopper", "grace@example.com")
+		));
+	}
+
+	@Test
+	void emailLookupUsesUniqueIndex() {
+		String plan = winningPlan(new Document("email", "ada@example.com"));
+
+		assertThat(plan).contains("IXSCAN").contains("email_unique").doesNotContain("COLLSCAN");
+		assertThat(repository.findByEmail("ada@example.com")).isPresent();
+	}
+
+	@Test
+	void nameSearchUsesCaseInsensitiveIndexForFilterAndSort() {
+		assertThat(service().searchByName("LOVELACE", "ada", 10))
+				.extracting(CustomerResponse::email)
+				.containsExactly("ada@example.com");
+
+		String plan = explain(lastFind());
+
+		assertThat(plan).contains("IXSCAN").contains("lastname_firstname_ci")
+				.doesNotContain("COLLSCAN").doesNotContain("\"SORT\"");
+	}
+
+	@Test
+	void lastnameSearchUsesCaseInsensitiveIndexForFilterAndSort() {
+		assertThat(service().searchByName("lovelace", null, 10))
+				.extracting(CustomerResponse::email)
+				.containsExactly("ada@example.com");
+
+		String plan = explain(lastFind());
+
+		assertThat(plan).contains("IXSCAN").contains("lastname_firstname_ci")
+				.doesNotContain("COLLSCAN").doesNotContain("\"SORT\"");
+	}
+
+	@Test
+	void duplicateEmailIsRejected() {
+		assertThatThrownBy(() -> repository.save(customer("Augusta", "King", "ada@example.com")))
+				.isInstanceOf(DuplicateKeyException.class);
+	}
+
+	private String winningPlan(Document filter) {
+		return explain(new Document("find", mongoTemplate.getCollectionName(Customer.class)).append("filter", filter));
+	}
+
+	private String explain(Bson find) {
+		Document explain = mongoTemplate.getDb()
+				.runCommand(new Document("explain", find).append("verbosity", "queryPlanner"));
+		return explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+	}
+
+	// searchByName only needs the repository and the mapper
+	private CustomerService service() {
+		return new CustomerService(repository, new CustomerMapper(), null, mongoTemplate, null);
+	}
+
+	/** The last find command the driver sent, without the session and wire-level fields explain does not accept. */
+	private static BsonDocument lastFind() {
+		BsonDocument find = FIND_COMMANDS.get(FIND_COMMANDS.size() - 1).clone();
+		find.keySet().removeIf(key -> key.startsWith("$") || key.equals("lsid") || key.equals("txnNumber"));
+		return find;
+	}
+
+	private static Customer customer(String firstname, String lastname, String email) {
+		return Customer.builder()
+				.firstname(firstname)
+				.lastname(lastname)
+				.email(email)
+				.version(0L)
+				.build();
+	}
+
+	/** Records the find commands exactly as the repository sends them (filter, sort, limit, collation). */
+	@TestConfiguration
+	static class CapturedCommands {
+
+		@Bean
+		MongoClientSettingsBuilderCustomizer captureFindCommands() {
+			return settings -> settings.addCommandListener(new CommandListener() {
+				@Override
+				public void commandStarted(CommandStartedEvent event) {
+					if ("find".equals(event.getCommandName())) {
+						FIND_COMMANDS.add(event.getCommand().clone());
+					}
+				}
+			});
+		}
+	}
+}
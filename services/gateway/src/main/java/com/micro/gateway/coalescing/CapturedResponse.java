@@ -0,0 +1,15 @@
+package com.micro.gateway.coalescing;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Copy of an upstream response (status, representation headers, full body) shared by the single-flight filter
+ * with the requests that waited for it.
+ */
+public record CapturedResponse(
+        HttpStatusCode status,
+        HttpHeaders headers,
+        byte[] body
+) {
+}
@@ -0,0 +1,97 @@
+package com.micro.gateway.coalescing;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Response of a single-flight leader: streams the upstream body to the client unchanged and keeps a copy of
+ * at most {@code maxBodySize} bytes for the waiting followers, handed over through {@code sink} on completion.
+ * As soon as the body outgrows the limit, copying stops and the followers are released to go upstream.
+ */
+class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+    /** Headers describing the body itself; everything else belongs to the leader's exchange. */
+    static final List<String> REPRESENTATION_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_ENCODING,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.ETAG,
+            HttpHeaders.VARY);
+
+    private final Sinks.One<CapturedResponse> sink;
+    private final long maxBodySize;
+    private ByteArrayOutputStream copy; // null once capturing stopped
+
+    CapturingResponseDecorator(ServerHttpResponse delegate, Sinks.One<CapturedResponse> sink, long maxBodySize) {
+        super(delegate);
+        this.sink = sink;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        long contentLength = getHeaders().getContentLength();
+        if (contentLength > maxBodySize) {
+            sink.tryEmitEmpty();
+            return super.writeWith(body);
+        }
+        copy = new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 256);
+        Flux<? extends DataBuffer> captured = Flux.from(body)
+                .doOnNext(this::capture)
+                .doOnComplete(() -> {
+                    if (copy != null) {
+                        sink.tryEmitValue(new CapturedResponse(getStatusCode(), representationHeaders(), copy.toByteArray()));
+                        copy = null;
+                    }
+                });
+        return super.writeWith(captured);
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        // Streaming responses (SSE, NDJSON) are never shared
+        sink.tryEmitEmpty();
+        return super.writeAndFlushWith(body);
+    }
+
+    /** Copies the buffer's readable bytes without moving its read position; the delegate writes it afterwards. */
+    private void capture(DataBuffer buffer) {
+        if (copy == null) {
+            return;
+        }
+        if (copy.size() + (long) buffer.readableByteCount() > maxBodySize) {
+            copy = null;
+            sink.tryEmitEmpty();
+            return;
+        }
+        try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+            while (chunks.hasNext()) {
+                ByteBuffer chunk = chunks.next();
+                byte[] bytes = new byte[chunk.remaining()];
+                chunk.get(bytes);
+                copy.write(bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    private HttpHeaders representationHeaders() {
+        var headers = new HttpHeaders();
+        for (String name : REPRESENTATION_HEADERS) {
+            List<String> values = getHeaders().get(name);
+            if (values != null) {
+                headers.put(name, List.copyOf(values));
+            }
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,154 @@
+package com.micro.gateway.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * SingleFlightGatewayFilterFactory
+ * --------------------------------
+ * Route filter ({@code - name: SingleFlight}) that collapses concurrent identical GET requests into one upstream call.
+ *
+ * <p>
+ * Why do we need it?
+ * - During promotions thousands of clients ask for the same {@code /api/v1/products/{id}} at the same instant.
+ * - Without coalescing each of them becomes its own backend call, although they all receive the same answer.
+ * </p>
+ *
+ * <p>
+ * How does it work?
+ * - The first request for a key (the "leader") goes upstream; its response body is captured on the way back.
+ * - Requests with the same key arriving while the leader is in flight ("followers") wait for the leader and
+ *   receive a copy of its status, body and representation headers (Content-Type, Content-Encoding,
+ *   Cache-Control, ETag, Vary). Nothing is cached after the leader completes.
+ * - The leader's body streams to its client as it arrives; at most {@code max-body-size} bytes are copied.
+ *   If the leader fails, or its body exceeds the limit, the followers go upstream on their own.
+ * </p>
+ *
+ * <p>
+ * The key is route id + path + query + {@code Accept}/{@code Accept-Encoding}, plus the {@code Authorization}
+ * header unless {@code shared-across-principals} is enabled for routes whose answers don't depend on the caller.
+ * Leader/follower counts are published as {@code gateway.coalescing.requests} (tags: route, role);
+ * the collapse ratio is {@code follower / (leader + follower)}.
+ * </p>
+ */
+@Component
+public class SingleFlightGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<SingleFlightGatewayFilterFactory.Config> {
+
+    private final ConcurrentMap<String, Mono<CapturedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!HttpMethod.GET.equals(request.getMethod())) {
+                return chain.filter(exchange);
+            }
+            String routeId = routeId(exchange);
+            String key = key(routeId, request, config);
+
+            Sinks.One<CapturedResponse> sink = Sinks.one();
+            Mono<CapturedResponse> result = sink.asMono();
+            Mono<CapturedResponse> leader = inFlight.putIfAbsent(key, result);
+
+            if (leader != null) {
+                counter(routeId, "follower").increment();
+                return leader
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(captured -> captured.isPresent()
+                                ? write(exchange.getResponse(), captured.get())
+                                : chain.filter(exchange));
+            }
+
+            counter(routeId, "leader").increment();
+            var capturing = new CapturingResponseDecorator(
+                    exchange.getResponse(), sink, config.getMaxBodySize().toBytes());
+            return chain.filter(exchange.mutate().response(capturing).build())
+                    .doFinally(signal -> {
+                        inFlight.remove(key, result);
+                        // Releases the followers if nothing was captured (error, streaming or oversized body)
+                        sink.tryEmitEmpty();
+                    });
+        };
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, CapturedResponse captured) {
+        response.setStatusCode(captured.status());
+        // Only representation headers are shared; the follower keeps its own (e.g. X-RateLimit-*, Set-Cookie)
+        captured.headers().forEach(response.getHeaders()::put);
+        response.getHeaders().setContentLength(captured.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(captured.body())));
+    }
+
+    private static String key(String routeId, ServerHttpRequest request, Config config) {
+        HttpHeaders headers = request.getHeaders();
+        var key = new StringBuilder(routeId)
+                .append('|').append(request.getURI().getRawPath())
+                .append('?').append(request.getURI().getRawQuery())
+                .append('|').append(headers.getFirst(HttpHeaders.ACCEPT))
+                .append('|').append(headers.getFirst(HttpHeaders.ACCEPT_ENCODING));
+        if (!config.isSharedAcrossPrincipals()) {
+            key.append('|').append(headers.getFirst(HttpHeaders.AUTHORIZATION));
+        }
+        return key.toString();
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private Counter counter(String routeId, String role) {
+        return counters.computeIfAbsent(routeId + '|' + role, ignored -> Counter.builder("gateway.coalescing.requests")
+                .description("GET requests seen by the single-flight filter, by role (leader went upstream, follower shared its response)")
+                .tag("route", routeId)
+                .tag("role", role)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Per-route settings of the {@code SingleFlight} filter.
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * Share one upstream response between different callers. Only enable it on routes whose
+         * responses don't depend on who is asking (e.g. the product catalog).
+         */
+        private boolean sharedAcrossPrincipals = false;
+
+        /** Responses larger than this are passed through to the leader only; followers go upstream themselves. */
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+    }
+}
@@ -0,0 +1,33 @@
+package com.micro.gateway.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * First global filter of every routed request: remembers when the request entered the gateway's
+ * filter chain and records {@code gateway.route.total} once the response is complete.
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteTimingFilter implements GlobalFilter, Ordered {
+
+    private final GatewayLatencyMetrics metrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        exchange.getAttributes().put(GatewayLatencyMetrics.START_ATTR, start);
+        return chain.filter(exchange)
+                .doFinally(signal -> metrics.recordTotal(exchange, System.nanoTime() - start));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,62 @@
+package com.micro.gateway.metrics;
+
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Turns on Reactor Netty's built-in metrics for the gateway's upstream HTTP client
+ * ({@code reactor.netty.http.client.connect.time}, {@code ...tls.handshake.time}, {@code ...response.time}, ...),
+ * tagged with the backend instance address, the response status and the route id as uri tag.
+ * <p>
+ * The client only sees the request path, not the exchange, so the route id is found again by matching the path
+ * against the {@code Path} predicates of the configured routes, in route order. Raw paths such as
+ * {@code /api/v1/products/42} would explode the tag cardinality; paths no configured route claims (discovery-locator
+ * routes) are collapsed into {@code upstream}. Routes are read at startup: a refreshed route list reaches these
+ * tags with the next restart.
+ */
+@Configuration
+public class UpstreamClientMetricsConfig {
+
+    static final String UNMATCHED = "upstream";
+
+    @Bean
+    public HttpClientCustomizer upstreamClientMetricsCustomizer(GatewayProperties gatewayProperties) {
+        Function<String, String> routeId = routeIdByPath(gatewayProperties.getRoutes());
+        return httpClient -> httpClient.metrics(true, routeId);
+    }
+
+    static Function<String, String> routeIdByPath(List<RouteDefinition> routes) {
+        Map<PathPattern, String> patterns = new LinkedHashMap<>();
+        for (RouteDefinition route : routes) {
+            for (PredicateDefinition predicate : route.getPredicates()) {
+                if ("Path".equals(predicate.getName())) {
+                    predicate.getArgs().values().stream()
+                            .filter(path -> path.startsWith("/")) // skips flags such as matchTrailingSlash
+                            .forEach(path -> patterns.putIfAbsent(PathPatternParser.defaultInstance.parse(path), route.getId()));
+                }
+            }
+        }
+        return uri -> {
+            int query = uri.indexOf('?');
+            PathContainer path = PathContainer.parsePath(query < 0 ? uri : uri.substring(0, query));
+            for (Map.Entry<PathPattern, String> pattern : patterns.entrySet()) {
+                if (pattern.getKey().matches(path)) {
+                    return pattern.getValue();
+                }
+            }
+            return UNMATCHED;
+        };
+    }
+}
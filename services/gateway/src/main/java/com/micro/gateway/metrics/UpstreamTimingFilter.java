@@ -0,0 +1,44 @@
+package com.micro.gateway.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs right before {@link NettyRoutingFilter} sends the request to the backend.
+ * <p>
+ * Records {@code gateway.route.filter-chain} (time from the first filter until here) and
+ * {@code gateway.route.upstream} (time until the routing filter has received the backend's response headers).
+ * Both are recorded once the routing filter completes, so they carry the backend's response status.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    private final GatewayLatencyMetrics metrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long upstreamStart = System.nanoTime();
+        Long start = exchange.getAttribute(GatewayLatencyMetrics.START_ATTR);
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    // The status is only set once the backend answered
+                    if (start != null) {
+                        metrics.recordFilterChain(exchange, upstreamStart - start);
+                    }
+                    metrics.recordUpstream(exchange, System.nanoTime() - upstreamStart);
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // After the load-balancer filter, before the routing filters
+        return NettyRoutingFilter.ORDER - 10;
+    }
+}
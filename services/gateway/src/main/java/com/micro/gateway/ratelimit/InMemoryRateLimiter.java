@@ -0,0 +1,138 @@
+package com.micro.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InMemoryRateLimiter
+ * -------------------
+ * {@link org.springframework.cloud.gateway.filter.ratelimit.RateLimiter} used by the {@code RequestRateLimiter}
+ * route filter, backed by per-client {@link TokenBucket}s kept in the gateway's memory (no Redis needed).
+ *
+ * <p>
+ * How is it configured?
+ * - Each route declares its own limits through the filter args, e.g.
+ *   {@code in-memory-rate-limiter.replenish-rate: 50} and {@code in-memory-rate-limiter.burst-capacity: 100}.
+ * - Buckets are keyed by route id + the route's limits + the key produced by {@link PrincipalOrAddressKeyResolver}
+ *   (JWT subject, or client IP for anonymous calls). A route refresh with new limits therefore starts fresh buckets
+ *   right away; the old ones expire with the idle timeout.
+ * - {@code requested-tokens} may not exceed {@code burst-capacity}: such a request could never be admitted.
+ * - Idle buckets are evicted after a while and the total number of buckets is bounded.
+ * </p>
+ *
+ * <p>
+ * Rejected calls are answered by the filter with {@code 429 Too Many Requests}; this class adds the
+ * {@code Retry-After} header and counts rejections in the {@code gateway.ratelimit.rejected} metric (tag: route).
+ * </p>
+ *
+ * Note: limits are enforced per gateway instance; with N instances the effective limit is N times higher.
+ */
+public class InMemoryRateLimiter extends AbstractRateLimiter<InMemoryRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    private final Config defaultConfig;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public InMemoryRateLimiter(
+            ConfigurationService configurationService,
+            MeterRegistry meterRegistry,
+            Config defaultConfig,
+            long maximumBuckets,
+            Duration idleTimeout
+    ) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        if (!defaultConfig.isAdmissible()) {
+            throw new IllegalArgumentException("Default rate limit: requested tokens (" + defaultConfig.getRequestedTokens()
+                    + ") exceed the burst capacity (" + defaultConfig.getBurstCapacity() + ")");
+        }
+        this.defaultConfig = defaultConfig;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        long now = System.nanoTime();
+        String key = routeId + '|' + config.getBurstCapacity() + '|' + config.getReplenishRate() + '|' + id;
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(config.getBurstCapacity(), config.getReplenishRate(), now));
+
+        TokenBucket.Probe probe = bucket.tryConsume(config.getRequestedTokens(), now);
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put(REMAINING_HEADER, String.valueOf(probe.remaining()));
+        headers.put(REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()));
+        headers.put(BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()));
+        if (!probe.consumed()) {
+            // No Retry-After when waiting can't help (only reachable if validation of the route config was bypassed)
+            if (config.isAdmissible()) {
+                // Round up: telling a client to come back too early only earns it another 429
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.waitNanos() + 999_999_999L));
+                headers.put(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            }
+            rejectedCounter(routeId).increment();
+        }
+        return Mono.just(new Response(probe.consumed(), headers));
+    }
+
+    private Counter rejectedCounter(String routeId) {
+        return rejectedCounters.computeIfAbsent(routeId, route -> Counter.builder("gateway.ratelimit.rejected")
+                .description("Requests rejected by the in-memory rate limiter")
+                .tag("route", route)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Per-route limits, bound from the {@code in-memory-rate-limiter.*} filter args.
+     */
+    @Validated
+    @Getter
+    @Setter
+    public static class Config {
+
+        /** Tokens added to each client's bucket per second (sustained requests per second). */
+        @Min(1)
+        private int replenishRate = 10;
+
+        /** Maximum tokens a bucket holds, i.e. the largest burst a client may send at once. */
+        @Min(1)
+        private int burstCapacity = 20;
+
+        /** Tokens one request costs. */
+        @Min(1)
+        private int requestedTokens = 1;
+
+        /** A request costing more tokens than a full bucket holds would be rejected forever. */
+        @AssertTrue(message = "requested-tokens must not exceed burst-capacity")
+        public boolean isAdmissible() {
+            return requestedTokens <= burstCapacity;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.micro.gateway.ratelimit;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.security.Principal;
+
+/**
+ * PrincipalOrAddressKeyResolver
+ * -----------------------------
+ * Decides "who" a request counts against for rate limiting.
+ *
+ * <ul>
+ *   <li>Authenticated calls: the JWT subject ({@code sub:<subject>}), so a client is limited
+ *       no matter how many addresses it calls from.</li>
+ *   <li>Anonymous calls (e.g. {@code /eureka/**}): the client IP ({@code ip:<address>}).</li>
+ * </ul>
+ * A key is always produced, so the limiter never has to deny a request for lack of a key.
+ */
+public class PrincipalOrAddressKeyResolver implements KeyResolver {
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        return exchange.getPrincipal()
+                .map(Principal::getName)
+                .map(subject -> "sub:" + subject)
+                .switchIfEmpty(Mono.fromSupplier(() -> "ip:" + address(exchange)));
+    }
+
+    private static String address(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : remoteAddress.getHostString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.micro.gateway.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Registers the in-memory rate limiter and its key resolver.
+ * <p>
+ * Being the only {@code RateLimiter} and {@code KeyResolver} beans, they are picked up as defaults by every
+ * {@code RequestRateLimiter} filter declared on the routes in {@code gateway-service.yml}.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public KeyResolver principalOrAddressKeyResolver() {
+        return new PrincipalOrAddressKeyResolver();
+    }
+
+    @Bean
+    public InMemoryRateLimiter inMemoryRateLimiter(
+            ConfigurationService configurationService,
+            MeterRegistry meterRegistry,
+            @Value("${application.rate-limit.default-replenish-rate:10}") int defaultReplenishRate,
+            @Value("${application.rate-limit.default-burst-capacity:20}") int defaultBurstCapacity,
+            @Value("${application.rate-limit.maximum-buckets:100000}") long maximumBuckets,
+            @Value("${application.rate-limit.idle-timeout:10m}") Duration idleTimeout
+    ) {
+        var defaults = new InMemoryRateLimiter.Config();
+        defaults.setReplenishRate(defaultReplenishRate);
+        defaults.setBurstCapacity(defaultBurstCapacity);
+        return new InMemoryRateLimiter(configurationService, meterRegistry, defaults, maximumBuckets, idleTimeout);
+    }
+}
@@ -0,0 +1,66 @@
+package com.micro.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * TokenBucket
+ * -----------
+ * Lock-free token bucket: holds at most {@code capacity} tokens and regains {@code tokensPerSecond} tokens per second.
+ *
+ * <p>
+ * The bucket state (current tokens + time of the last refill) is an immutable snapshot swapped with
+ * compare-and-set, so concurrent requests for the same client never block each other; a losing thread
+ * simply recomputes from the newer snapshot. Time is passed in by the caller ({@link System#nanoTime()}
+ * in production) which keeps the class deterministic to test.
+ * </p>
+ */
+public final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double tokensPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / NANOS_PER_SECOND;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Tries to take {@code requested} tokens out of the bucket.
+     *
+     * @param requested number of tokens this request costs
+     * @param nowNanos  current monotonic time in nanoseconds
+     * @return whether the tokens were taken, how many remain, and how long to wait if they were not
+     */
+    public Probe tryConsume(int requested, long nowNanos) {
+        while (true) {
+            State current = state.get();
+            long now = Math.max(nowNanos, current.refilledAt());
+            double available = Math.min(capacity, current.tokens() + (now - current.refilledAt()) * tokensPerNano);
+            if (available < requested) {
+                long waitNanos = (long) Math.ceil((requested - available) / tokensPerNano);
+                return new Probe(false, (long) available, waitNanos);
+            }
+            State next = new State(available - requested, now);
+            if (state.compareAndSet(current, next)) {
+                return new Probe(true, (long) next.tokens(), 0);
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+
+    /**
+     * Outcome of a {@link #tryConsume(int, long)} call.
+     *
+     * @param consumed  {@code true} if the request is admitted
+     * @param remaining whole tokens left in the bucket
+     * @param waitNanos time until enough tokens are available again (0 when admitted)
+     */
+    public record Probe(boolean consumed, long remaining, long waitNanos) {
+    }
+}
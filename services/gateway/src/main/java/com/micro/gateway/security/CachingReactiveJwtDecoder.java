@@ -0,0 +1,102 @@
+package com.micro.gateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * CachingReactiveJwtDecoder
+ * -------------------------
+ * A {@link ReactiveJwtDecoder} that remembers tokens it has already validated.
+ *
+ * <p>
+ * Why do we need it?
+ * - Clients send the same bearer token on every call until it expires, and each call used to pay for a full
+ *   signature verification and claims parsing.
+ * - Successfully decoded tokens are kept in a bounded cache keyed by the SHA-256 hash of the raw token,
+ *   and each entry expires exactly at the token's {@code exp} claim, so an expired token is never served from the cache.
+ * </p>
+ *
+ * <p>
+ * Only successful validations are cached; rejected tokens always go through the delegate again.
+ * Tokens without an {@code exp} claim are not cached at all.
+ * </p>
+ */
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveJwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return delegate.decode(token)
+                .doOnNext(jwt -> {
+                    if (jwt.getExpiresAt() != null) {
+                        cache.put(key, jwt);
+                    }
+                });
+    }
+
+    /**
+     * @return the number of tokens currently cached (approximate)
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Expires each cache entry at the {@code exp} claim of the cached token.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
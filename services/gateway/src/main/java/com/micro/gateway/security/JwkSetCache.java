@@ -0,0 +1,105 @@
+package com.micro.gateway.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JwkSetCache
+ * -----------
+ * Keeps the identity provider's JWK set (the public keys used to sign access tokens) in memory.
+ *
+ * <p>
+ * Why do we need it?
+ * - The default resource-server decoder fetches the JWK set lazily, so the first request after startup
+ *   (and the first request after every key rotation) waits on a round-trip to Keycloak.
+ * - Here the key set is fetched right away and then refreshed on a fixed interval in the background,
+ *   so token verification always finds the keys already in memory.
+ * </p>
+ *
+ * <p>
+ * If a token is signed with a key id we have never seen (the provider rotated its keys between two refreshes),
+ * a single on-demand refresh is triggered; concurrent requests share that same in-flight fetch.
+ * </p>
+ */
+@Slf4j
+public class JwkSetCache implements DisposableBean {
+
+    private final WebClient webClient;
+    private final String jwkSetUri;
+
+    private final AtomicReference<JWKSet> current = new AtomicReference<>(new JWKSet());
+    private final AtomicReference<Mono<JWKSet>> inFlight = new AtomicReference<>();
+    private final Disposable refresher;
+
+    public JwkSetCache(WebClient webClient, String jwkSetUri, Duration refreshInterval) {
+        this.webClient = webClient;
+        this.jwkSetUri = jwkSetUri;
+        // Prefetch immediately, then keep the keys fresh without involving request threads
+        this.refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(e -> {
+                    log.warn("Cannot refresh JWK set from {}: {}", jwkSetUri, e.getMessage());
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    /**
+     * Selects the keys matching the header (kid, alg, use) of the given token.
+     * Used as the JWK source of {@link org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder}.
+     *
+     * @param jwt the parsed, not yet verified token
+     * @return the candidate verification keys
+     */
+    public Flux<JWK> select(SignedJWT jwt) {
+        JWKSelector selector = new JWKSelector(JWKMatcher.forJWSHeader(jwt.getHeader()));
+        List<JWK> keys = selector.select(current.get());
+        if (!keys.isEmpty()) {
+            return Flux.fromIterable(keys);
+        }
+        // Unknown key id: the provider may have rotated its keys since the last refresh
+        return refresh().flatMapMany(set -> Flux.fromIterable(selector.select(set)));
+    }
+
+    private Mono<JWKSet> refresh() {
+        Mono<JWKSet> pending = inFlight.get();
+        if (pending != null) {
+            return pending;
+        }
+        Mono<JWKSet> fetch = webClient.get()
+                .uri(jwkSetUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(this::parse)
+                .doOnNext(current::set)
+                .doFinally(signal -> inFlight.set(null))
+                .cache();
+        return inFlight.compareAndSet(null, fetch) ? fetch : refresh();
+    }
+
+    private JWKSet parse(String body) {
+        try {
+            return JWKSet.parse(body);
+        } catch (java.text.ParseException e) {
+            throw new IllegalStateException("Invalid JWK set returned by " + jwkSetUri, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refresher.dispose();
+    }
+}
@@ -0,0 +1,44 @@
+package com.micro.gateway.security;
+
+import com.micro.gateway.metrics.GatewayLatencyMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records {@code gateway.jwt.validation} per route id, response status and outcome.
+ * <p>
+ * Runs before Spring Security's filter chain and hands a {@link JwtValidationTiming} to
+ * {@link TimedReactiveJwtDecoder} through the Reactor context. Once the response is complete the route has been
+ * resolved and the status is set, so the measured time is recorded with both. Rejected tokens never reach the
+ * gateway's route lookup: they are recorded with route {@code none} and status 401.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtValidationMetricsFilter implements WebFilter, Ordered {
+
+    private final GatewayLatencyMetrics metrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        JwtValidationTiming timing = new JwtValidationTiming();
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(JwtValidationTiming.class, timing))
+                .doFinally(signal -> {
+                    // Requests without a bearer token (permitAll paths, anonymous 401s) validated nothing
+                    if (timing.validated()) {
+                        metrics.recordJwtValidation(exchange, timing.outcome(), timing.nanos());
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // Before the security WebFilterChainProxy (order -100)
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.micro.gateway.security;
+
+/**
+ * Token validation time of one request, passed from {@link JwtValidationMetricsFilter} to
+ * {@link TimedReactiveJwtDecoder} through the Reactor context.
+ */
+final class JwtValidationTiming {
+
+    private long nanos;
+    private boolean validated;
+    private boolean success = true;
+
+    synchronized void add(long nanos, boolean success) {
+        this.nanos += nanos;
+        this.validated = true;
+        this.success &= success;
+    }
+
+    synchronized boolean validated() {
+        return validated;
+    }
+
+    synchronized long nanos() {
+        return nanos;
+    }
+
+    synchronized String outcome() {
+        return success ? "success" : "failure";
+    }
+}
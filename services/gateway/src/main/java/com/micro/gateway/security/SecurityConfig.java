@@ -1,11 +1,18 @@
 package com.micro.gateway.security;
 
 // Spring + Security imports
+import org.springframework.beans.factory.annotation.Value;         // Injects configuration values
 import org.springframework.context.annotation.Bean;                // Marks security config method as a Bean
 import org.springframework.context.annotation.Configuration;      // Marks the class as a configuration source
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity; // Enables reactive security for WebFlux
 import org.springframework.security.config.web.server.ServerHttpSecurity; // Fluent API for configuring server security
+import org.springframework.security.oauth2.jwt.JwtValidators;            // Default timestamp + issuer validation
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder; // Signature verification + claims parsing
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;       // Contract used by the resource server
 import org.springframework.security.web.server.SecurityWebFilterChain;    // The security filter chain applied to requests
+import org.springframework.web.reactive.function.client.WebClient;       // Non-blocking HTTP client (JWK set fetches)
+
+import java.time.Duration;
 
 import static org.springframework.security.config.Customizer.withDefaults; // Utility for default config
 
@@ -37,4 +44,50 @@ public class SecurityConfig {
                 );
         return http.build(); // Returns built filter chain to Spring
     }
+
+    /**
+     * Keeps Keycloak's signing keys in memory, prefetched at startup and refreshed in the background,
+     * so token verification never waits on a JWK set download.
+     *
+     * @param webClientBuilder  builder for the non-blocking client used to download the key set
+     * @param jwkSetUri         the provider's JWK set endpoint
+     * @param refreshInterval   how often the key set is re-downloaded
+     * @return the shared key set holder
+     */
+    @Bean
+    public JwkSetCache jwkSetCache(
+            WebClient.Builder webClientBuilder,
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${application.security.jwt.jwk-refresh-interval:5m}") Duration refreshInterval
+    ) {
+        return new JwkSetCache(webClientBuilder.build(), jwkSetUri, refreshInterval);
+    }
+
+    /**
+     * JWT decoder used by {@code oauth2ResourceServer().jwt(withDefaults())}.
+     * <p>
+     * Verifies signatures against the in-memory {@link JwkSetCache}, validates the issuer and timestamps,
+     * and (unless disabled) caches validated tokens until their {@code exp} claim so repeated requests
+     * carrying the same bearer token skip verification entirely.
+     *
+     * @param jwkSetCache       source of the verification keys
+     * @param issuerUri         expected {@code iss} claim
+     * @param cacheEnabled      {@code false} to verify every request (useful to compare throughput)
+     * @param cacheMaximumSize  maximum number of validated tokens kept in memory
+     * @return the reactive JWT decoder
+     */
+    @Bean
+    public ReactiveJwtDecoder jwtDecoder(
+            JwkSetCache jwkSetCache,
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+            @Value("${application.security.jwt.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${application.security.jwt.cache.maximum-size:10000}") long cacheMaximumSize
+    ) {
+        NimbusReactiveJwtDecoder decoder = NimbusReactiveJwtDecoder
+                .withJwkSource(jwkSetCache::select)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        ReactiveJwtDecoder effective = cacheEnabled ? new CachingReactiveJwtDecoder(decoder, cacheMaximumSize) : decoder;
+        return new TimedReactiveJwtDecoder(effective); // timed per route by JwtValidationMetricsFilter
+    }
 }
@@ -0,0 +1,37 @@
+package com.micro.gateway.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Measures how long bearer-token validation takes.
+ * <p>
+ * Wraps the whole decoder, so cache hits of {@link CachingReactiveJwtDecoder} are included and the
+ * histogram shows the real cost the security filter adds to each request. The decoder runs in the security
+ * filter chain, before the gateway has picked a route, so the time is only noted in the request's
+ * {@link JwtValidationTiming}; {@link JwtValidationMetricsFilter} records it once route and status are known.
+ */
+public class TimedReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveJwtDecoder delegate;
+
+    public TimedReactiveJwtDecoder(ReactiveJwtDecoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) throws JwtException {
+        return Mono.deferContextual(context -> {
+            JwtValidationTiming timing = context.getOrDefault(JwtValidationTiming.class, null);
+            if (timing == null) {
+                return delegate.decode(token);
+            }
+            long start = System.nanoTime();
+            return delegate.decode(token)
+                    .doOnSuccess(jwt -> timing.add(System.nanoTime() - start, true))
+                    .doOnError(e -> timing.add(System.nanoTime() - start, false));
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package com.micro.gateway.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The leader's upstream body is held back by {@code gate}, so the follower arrives while the leader is in flight.
+ */
+class SingleFlightGatewayFilterFactoryTests {
+
+	private static final String BODY = "{\"id\":1,\"name\":\"Keyboard\"}";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AtomicInteger upstreamCalls = new AtomicInteger();
+	private final Sinks.Empty<Void> gate = Sinks.empty();
+
+	@Test
+	void followerSharesLeaderResponse() {
+		GatewayFilter filter = filter(DataSize.ofMegabytes(1));
+		GatewayFilterChain upstream = exchange -> {
+			upstreamCalls.incrementAndGet();
+			return write(exchange, gated(BODY));
+		};
+		var leader = get();
+		var follower = get();
+
+		CompletableFuture<Void> leaderDone = filter.filter(leader, upstream).toFuture();
+		CompletableFuture<Void> followerDone = filter.filter(follower, upstream).toFuture();
+		assertThat(followerDone).isNotDone();
+		gate.tryEmitEmpty();
+		leaderDone.join();
+		followerDone.join();
+
+		assertThat(upstreamCalls).hasValue(1);
+		assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+		assertThat(leader.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+		assertThat(meterRegistry.get("gateway.coalescing.requests").tag("role", "follower").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void followerGetsOnlyRepresentationHeaders() {
+		GatewayFilter filter = filter(DataSize.ofMegabytes(1));
+		GatewayFilterChain upstream = exchange -> {
+			upstreamCalls.incrementAndGet();
+			HttpHeaders headers = exchange.getResponse().getHeaders();
+			headers.add("X-RateLimit-Remaining", "9");
+			headers.add(HttpHeaders.SET_COOKIE, "session=leader");
+			headers.setETag("\"v1\"");
+			headers.setContentType(MediaType.APPLICATION_JSON);
+			return write(exchange, gated(BODY));
+		};
+		var leader = get();
+		var follower = get();
+		// Set on the follower's own exchange by RequestRateLimiter before SingleFlight runs
+		follower.getResponse().getHeaders().add("X-RateLimit-Remaining", "8");
+		follower.getResponse().getHeaders().setContentType(MediaType.TEXT_PLAIN);
+
+		CompletableFuture<Void> leaderDone = filter.filter(leader, upstream).toFuture();
+		CompletableFuture<Void> followerDone = filter.filter(follower, upstream).toFuture();
+		gate.tryEmitEmpty();
+		leaderDone.join();
+		followerDone.join();
+
+		assertThat(upstreamCalls).hasValue(1);
+		HttpHeaders headers = follower.getResponse().getHeaders();
+		assertThat(headers.get("X-RateLimit-Remaining")).containsExactly("8");
+		assertThat(headers.get(HttpHeaders.CONTENT_TYPE)).containsExactly(MediaType.APPLICATION_JSON_VALUE);
+		assertThat(headers.getETag()).isEqualTo("\"v1\"");
+		assertThat(headers.containsKey(HttpHeaders.SET_COOKIE)).isFalse();
+		assertThat(headers.getContentLength()).isEqualTo(BODY.getBytes(StandardCharsets.UTF_8).length);
+	}
+
+	@Test
+	void oversizedBodyStreamsToLeaderAndReleasesFollowers() {
+		GatewayFilter filter = filter(DataSize.ofBytes(16));
+		GatewayFilterChain upstream = exchange -> upstreamCalls.getAndIncrement() == 0
+				// 10 + 10 bytes pass the limit before the gated last chunk
+				? write(exchange, Flux.concat(Flux.just("0123456789", "abcdefghij"), gated("!")))
+				: write(exchange, Flux.just("0123456789abcdefghij!"));
+		var leader = get();
+		var follower = get();
+
+		CompletableFuture<Void> leaderDone = filter.filter(leader, upstream).toFuture();
+		CompletableFuture<Void> followerDone = filter.filter(follower, upstream).toFuture();
+
+		// The leader is still streaming, the follower already went upstream on its own
+		assertThat(leaderDone).isNotDone();
+		assertThat(followerDone).isDone();
+		gate.tryEmitEmpty();
+		leaderDone.join();
+
+		assertThat(upstreamCalls).hasValue(2);
+		assertThat(leader.getResponse().getBodyAsString().block()).isEqualTo("0123456789abcdefghij!");
+		assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("0123456789abcdefghij!");
+	}
+
+	@Test
+	void declaredOversizedBodyIsNotCaptured() {
+		GatewayFilter filter = filter(DataSize.ofBytes(16));
+		String body = "x".repeat(1024);
+		GatewayFilterChain upstream = exchange -> {
+			exchange.getResponse().getHeaders().setContentLength(body.length());
+			return upstreamCalls.getAndIncrement() == 0 ? write(exchange, gated(body)) : write(exchange, Flux.just(body));
+		};
+		var leader = get();
+		var follower = get();
+
+		CompletableFuture<Void> leaderDone = filter.filter(leader, upstream).toFuture();
+		CompletableFuture<Void> followerDone = filter.filter(follower, upstream).toFuture();
+
+		assertThat(followerDone).isDone();
+		gate.tryEmitEmpty();
+		leaderDone.join();
+
+		assertThat(upstreamCalls).hasValue(2);
+		assertThat(leader.getResponse().getBodyAsString().block()).isEqualTo(body);
+		assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(body);
+	}
+
+	private GatewayFilter filter(DataSize maxBodySize) {
+		var config = new SingleFlightGatewayFilterFactory.Config();
+		config.setMaxBodySize(maxBodySize);
+		return new SingleFlightGatewayFilterFactory(meterRegistry).apply(config);
+	}
+
+	private Flux<String> gated(String chunk) {
+		return Mono.just(chunk).delayUntil(ignored -> gate.asMono()).flux();
+	}
+
+	private static Mono<Void> write(ServerWebExchange exchange, Flux<String> chunks) {
+		var response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.OK);
+		return response.writeWith(chunks.map(chunk -> response.bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	private static MockServerWebExchange get() {
+		return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/products/1").accept(MediaType.APPLICATION_JSON));
+	}
+}
@@ -0,0 +1,31 @@
+package com.micro.gateway.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstreamClientMetricsConfigTests {
+
+	private final Function<String, String> routeId = UpstreamClientMetricsConfig.routeIdByPath(List.of(
+			route("order-service", "Path=/api/v1/orders/**,/api/v2/orders/**"),
+			route("product-service", "Path=/api/v1/products/**")));
+
+	@Test
+	void upstreamPathsAreTaggedWithTheirRoute() {
+		assertThat(routeId.apply("/api/v1/products/42")).isEqualTo("product-service");
+		assertThat(routeId.apply("/api/v2/orders?page=1")).isEqualTo("order-service");
+		assertThat(routeId.apply("/PRODUCT-SERVICE/api/v1/products")).isEqualTo(UpstreamClientMetricsConfig.UNMATCHED);
+	}
+
+	private static RouteDefinition route(String id, String path) {
+		var route = new RouteDefinition();
+		route.setId(id);
+		route.setPredicates(List.of(new PredicateDefinition(path)));
+		return route;
+	}
+}
@@ -0,0 +1,29 @@
+package com.micro.gateway.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstreamTimingFilterTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final UpstreamTimingFilter filter = new UpstreamTimingFilter(new GatewayLatencyMetrics(meterRegistry));
+
+	@Test
+	void filterChainTimeCarriesTheBackendStatus() {
+		var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/products/1"));
+		exchange.getAttributes().put(GatewayLatencyMetrics.START_ATTR, System.nanoTime());
+
+		filter.filter(exchange, routed -> Mono.fromRunnable(() -> routed.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE)))
+				.block();
+
+		assertThat(meterRegistry.get("gateway.route.filter-chain").tag("status", "503").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("gateway.route.upstream").tag("status", "503").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.find("gateway.route.filter-chain").tag("status", "UNKNOWN").timer()).isNull();
+	}
+}
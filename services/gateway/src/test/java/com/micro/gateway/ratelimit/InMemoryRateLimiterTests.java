@@ -0,0 +1,54 @@
+package com.micro.gateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryRateLimiterTests {
+
+	private final InMemoryRateLimiter limiter = new InMemoryRateLimiter(null, new SimpleMeterRegistry(),
+			config(1, 1, 1), 100, Duration.ofMinutes(1));
+
+	@Test
+	void refreshedRouteLimitsReachActiveClients() {
+		limiter.getConfig().put("orders", config(1, 1, 1));
+		assertThat(limiter.isAllowed("orders", "jane").block().isAllowed()).isTrue();
+		assertThat(limiter.isAllowed("orders", "jane").block().isAllowed()).isFalse();
+
+		limiter.getConfig().put("orders", config(10, 10, 1));
+
+		var response = limiter.isAllowed("orders", "jane").block();
+		assertThat(response.isAllowed()).isTrue();
+		assertThat(response.getHeaders()).containsEntry(InMemoryRateLimiter.BURST_CAPACITY_HEADER, "10");
+	}
+
+	@Test
+	void requestThatCanNeverBeAdmittedGetsNoRetryAfter() {
+		limiter.getConfig().put("orders", config(1, 2, 3));
+
+		var response = limiter.isAllowed("orders", "jane").block();
+
+		assertThat(response.isAllowed()).isFalse();
+		assertThat(response.getHeaders()).doesNotContainKey(HttpHeaders.RETRY_AFTER);
+	}
+
+	@Test
+	void rejectsDefaultsWhereRequestedTokensExceedBurstCapacity() {
+		assertThatThrownBy(() -> new InMemoryRateLimiter(null, new SimpleMeterRegistry(), config(1, 2, 3), 100,
+				Duration.ofMinutes(1)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static InMemoryRateLimiter.Config config(int replenishRate, int burstCapacity, int requestedTokens) {
+		var config = new InMemoryRateLimiter.Config();
+		config.setReplenishRate(replenishRate);
+		config.setBurstCapacity(burstCapacity);
+		config.setRequestedTokens(requestedTokens);
+		return config;
+	}
+}
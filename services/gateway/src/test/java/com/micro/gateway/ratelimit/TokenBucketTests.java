@@ -0,0 +1,39 @@
+package com.micro.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void admitsUpToBurstCapacityThenRejects() {
+		var bucket = new TokenBucket(3, 1, 0);
+
+		assertThat(bucket.tryConsume(1, 0).consumed()).isTrue();
+		assertThat(bucket.tryConsume(1, 0).consumed()).isTrue();
+		assertThat(bucket.tryConsume(1, 0).consumed()).isTrue();
+
+		var rejected = bucket.tryConsume(1, 0);
+		assertThat(rejected.consumed()).isFalse();
+		assertThat(rejected.remaining()).isZero();
+		assertThat(rejected.waitNanos()).isEqualTo(SECOND);
+	}
+
+	@Test
+	void refillsAtReplenishRateWithoutExceedingCapacity() {
+		var bucket = new TokenBucket(2, 2, 0);
+		bucket.tryConsume(2, 0);
+
+		assertThat(bucket.tryConsume(1, SECOND / 2).consumed()).isTrue();
+		assertThat(bucket.tryConsume(1, SECOND / 2).consumed()).isFalse();
+
+		var afterLongIdle = bucket.tryConsume(1, 60 * SECOND);
+		assertThat(afterLongIdle.consumed()).isTrue();
+		assertThat(afterLongIdle.remaining()).isEqualTo(1);
+	}
+}
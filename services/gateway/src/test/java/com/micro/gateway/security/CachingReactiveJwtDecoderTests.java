@@ -0,0 +1,64 @@
+package com.micro.gateway.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingReactiveJwtDecoderTests {
+
+	private final AtomicInteger delegateCalls = new AtomicInteger();
+
+	@Test
+	void validatedTokenIsDecodedOnlyOnce() {
+		var decoder = new CachingReactiveJwtDecoder(delegate(Instant.now().plusSeconds(300)), 100);
+
+		var first = decoder.decode("token-a").block();
+		var second = decoder.decode("token-a").block();
+
+		assertThat(second).isSameAs(first);
+		assertThat(delegateCalls).hasValue(1);
+	}
+
+	@Test
+	void expiredEntriesAreDecodedAgain() {
+		var decoder = new CachingReactiveJwtDecoder(delegate(Instant.now().minusSeconds(1)), 100);
+
+		decoder.decode("token-a").block();
+		decoder.decode("token-a").block();
+
+		assertThat(delegateCalls).hasValue(2);
+	}
+
+	@Test
+	void rejectedTokensAreNotCached() {
+		ReactiveJwtDecoder failing = token -> {
+			delegateCalls.incrementAndGet();
+			return Mono.error(new BadJwtException("bad signature"));
+		};
+		var decoder = new CachingReactiveJwtDecoder(failing, 100);
+
+		assertThatThrownBy(() -> decoder.decode("token-a").block()).isInstanceOf(BadJwtException.class);
+		assertThatThrownBy(() -> decoder.decode("token-a").block()).isInstanceOf(BadJwtException.class);
+		assertThat(delegateCalls).hasValue(2);
+	}
+
+	private ReactiveJwtDecoder delegate(Instant expiresAt) {
+		return token -> {
+			delegateCalls.incrementAndGet();
+			return Mono.just(Jwt.withTokenValue(token)
+					.header("alg", "RS256")
+					.subject("customer")
+					.issuedAt(Instant.now().minusSeconds(10))
+					.expiresAt(expiresAt)
+					.build());
+		};
+	}
+}
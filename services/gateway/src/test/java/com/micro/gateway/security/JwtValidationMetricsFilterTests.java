@@ -0,0 +1,79 @@
+package com.micro.gateway.security;
+
+import com.micro.gateway.metrics.GatewayLatencyMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class JwtValidationMetricsFilterTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final JwtValidationMetricsFilter filter = new JwtValidationMetricsFilter(new GatewayLatencyMetrics(meterRegistry));
+
+	@Test
+	void validationTimeCarriesRouteAndStatus() {
+		var decoder = new TimedReactiveJwtDecoder(token -> Mono.just(jwt(token)));
+		var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/products/1"));
+
+		// Security validates first, then the gateway picks the route and the backend answers
+		filter.filter(exchange, filtered -> decoder.decode("token-a")
+						.doOnNext(jwt -> {
+							filtered.getAttributes().put(GATEWAY_ROUTE_ATTR, route("product-service"));
+							filtered.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+						})
+						.then())
+				.block();
+
+		assertThat(meterRegistry.get("gateway.jwt.validation")
+				.tag("route", "product-service").tag("status", "404").tag("outcome", "success")
+				.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void rejectedTokensAreRecordedWithoutRoute() {
+		var decoder = new TimedReactiveJwtDecoder(token -> Mono.error(new BadJwtException("bad signature")));
+		var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/products/1"));
+
+		filter.filter(exchange, filtered -> decoder.decode("token-a")
+						.then()
+						.onErrorResume(e -> Mono.fromRunnable(() -> filtered.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED))))
+				.block();
+
+		assertThat(meterRegistry.get("gateway.jwt.validation")
+				.tag("route", "none").tag("status", "401").tag("outcome", "failure")
+				.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void requestsWithoutTokenAreNotRecorded() {
+		var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/eureka/apps"));
+
+		filter.filter(exchange, filtered -> Mono.empty()).block();
+
+		assertThat(meterRegistry.find("gateway.jwt.validation").timer()).isNull();
+	}
+
+	private static Route route(String id) {
+		return Route.async().id(id).uri("http://localhost").predicate(exchange -> true).build();
+	}
+
+	private static Jwt jwt(String token) {
+		return Jwt.withTokenValue(token)
+				.header("alg", "RS256")
+				.subject("customer")
+				.issuedAt(Instant.now().minusSeconds(10))
+				.expiresAt(Instant.now().plusSeconds(300))
+				.build();
+	}
+}
@@ -0,0 +1,69 @@
+package com.micro.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one endpoint during the measured window.
+ * <p>
+ * Latency is measured from the request's <em>scheduled</em> send time, not from when it was actually sent,
+ * so a stalled system shows up in the percentiles instead of silently lowering the request rate
+ * (no coordinated omission).
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    void recordSuccess(long latencyNanos) {
+        record(latencyNanos);
+        succeeded.increment();
+    }
+
+    void recordFailure(long latencyNanos, String reason) {
+        record(latencyNanos);
+        failed.increment();
+        failures.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    private void record(long latencyNanos) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+
+    long succeeded() {
+        return succeeded.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    Map<String, Long> failures() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        failures.forEach((reason, count) -> snapshot.put(reason, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,157 @@
+package com.micro.loadtest;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Local stand-ins for everything the services need from docker-compose.
+ *
+ * <ul>
+ *   <li>PostgreSQL (zonky embedded binaries) with the {@code order}, {@code payment} and {@code product} databases.</li>
+ *   <li>MongoDB (flapdoodle) with the {@code haifawi} user the services authenticate as.</li>
+ *   <li>Kafka (in-JVM KRaft broker from spring-kafka-test) with {@code order-topic} and {@code payment-topic}.</li>
+ *   <li>GreenMail SMTP accepting the notification service's credentials.</li>
+ *   <li>{@link MockJwtIssuer} in place of Keycloak.</li>
+ * </ul>
+ * Everything listens on a free port; the services are pointed at them through command-line properties.
+ */
+@Slf4j
+public final class Infrastructure implements AutoCloseable {
+
+    static final String MONGO_USER = "haifawi";
+    static final String MONGO_PASSWORD = "haifawi";
+    static final String MAIL_USER = "haifawi";
+    static final String MAIL_PASSWORD = "haifawi";
+
+    private EmbeddedPostgres postgres;
+    private TransitionWalker.ReachedState<RunningMongodProcess> mongo;
+    private EmbeddedKafkaKraftBroker kafka;
+    private GreenMail greenMail;
+    private MockJwtIssuer jwtIssuer;
+
+    static Infrastructure start() throws Exception {
+        Infrastructure infrastructure = new Infrastructure();
+        try {
+            infrastructure.startAll();
+        } catch (Exception | Error e) {
+            infrastructure.close();
+            throw e;
+        }
+        return infrastructure;
+    }
+
+    private void startAll() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String database : List.of("order", "payment", "product")) {
+                statement.execute("create database \"" + database + "\"");
+            }
+        }
+        log.info("PostgreSQL listening on {}", postgres.getPort());
+
+        mongo = Mongod.instance().start(Version.Main.V7_0);
+        try (MongoClient client = MongoClients.create("mongodb://" + mongoAddress())) {
+            // mongod runs without --auth, but the services still log in with their configured user
+            client.getDatabase("admin").runCommand(new Document("createUser", MONGO_USER)
+                    .append("pwd", MONGO_PASSWORD)
+                    .append("roles", List.of(new Document("role", "root").append("db", "admin"))));
+        }
+        log.info("MongoDB listening on {}", mongoAddress());
+
+        kafka = new EmbeddedKafkaKraftBroker(1, 6, "order-topic", "payment-topic"); // same partition count as the services declare
+        kafka.afterPropertiesSet();
+        log.info("Kafka listening on {}", kafka.getBrokersAsString());
+
+        greenMail = new GreenMail(ServerSetup.SMTP.dynamicPort())
+                .withConfiguration(GreenMailConfiguration.aConfig().withUser(MAIL_USER, MAIL_PASSWORD));
+        greenMail.start();
+        log.info("SMTP (GreenMail) listening on {}", smtpPort());
+
+        jwtIssuer = MockJwtIssuer.start();
+        log.info("JWT issuer at {}", jwtIssuer.issuerUri());
+    }
+
+    int postgresPort() {
+        return postgres.getPort();
+    }
+
+    /**
+     * @param database one of the databases created at startup ({@code order}, {@code payment}, {@code product})
+     */
+    DataSource postgresDatabase(String database) {
+        return postgres.getDatabase("postgres", database);
+    }
+
+    String mongoHost() {
+        return mongo.current().getServerAddress().getHost();
+    }
+
+    int mongoPort() {
+        return mongo.current().getServerAddress().getPort();
+    }
+
+    private String mongoAddress() {
+        ServerAddress address = mongo.current().getServerAddress();
+        return address.getHost() + ":" + address.getPort();
+    }
+
+    String kafkaBootstrapServers() {
+        return kafka.getBrokersAsString();
+    }
+
+    int smtpPort() {
+        return greenMail.getSmtp().getPort();
+    }
+
+    /**
+     * @return the number of e-mails the notification service has delivered so far
+     */
+    int receivedEmails() {
+        return greenMail.getReceivedMessages().length;
+    }
+
+    MockJwtIssuer jwtIssuer() {
+        return jwtIssuer;
+    }
+
+    @Override
+    public void close() {
+        if (jwtIssuer != null) {
+            jwtIssuer.close();
+        }
+        if (greenMail != null) {
+            greenMail.stop();
+        }
+        if (kafka != null) {
+            kafka.destroy();
+        }
+        if (mongo != null) {
+            mongo.close();
+        }
+        if (postgres != null) {
+            try {
+                postgres.close();
+            } catch (Exception e) {
+                log.warn("Cannot stop PostgreSQL", e);
+            }
+        }
+    }
+}
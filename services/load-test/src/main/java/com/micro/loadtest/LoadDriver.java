@@ -0,0 +1,121 @@
+package com.micro.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests arrive at a fixed rate whatever the response times are.
+ * <p>
+ * One scheduler thread computes the send time of every request ({@code start + n / rps}), picks a scenario
+ * by weight and hands the request to the asynchronous JDK HTTP client, so slow responses never delay
+ * later arrivals. When more than {@code max-in-flight} requests are outstanding, new arrivals are counted
+ * as dropped instead of being queued in the harness.
+ */
+@Slf4j
+final class LoadDriver {
+
+    private final LoadTestConfig config;
+    private final TestData data;
+    private final HttpClient client;
+    private final Map<Scenario, EndpointStats> stats = new EnumMap<>(Scenario.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Scenario[] weighted;
+
+    LoadDriver(LoadTestConfig config, TestData data, HttpClient client) {
+        this.config = config;
+        this.data = data;
+        this.client = client;
+        int total = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+        this.weighted = new Scenario[total];
+        int index = 0;
+        for (Map.Entry<Scenario, Integer> entry : config.mix().entrySet()) {
+            stats.put(entry.getKey(), new EndpointStats());
+            for (int i = 0; i < entry.getValue(); i++) {
+                weighted[index++] = entry.getKey();
+            }
+        }
+    }
+
+    /**
+     * Applies the warm-up and then the measured load, and waits for the outstanding responses.
+     *
+     * @return statistics of the measured window, per scenario
+     */
+    Map<Scenario, EndpointStats> run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(42);
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rps();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        log.info("Warming up for {}, then measuring for {} at {} requests/second", config.warmup(), config.duration(), config.rps());
+
+        boolean measuring = false;
+        for (long n = 0; ; n++) {
+            long scheduled = start + (long) (n * intervalNanos);
+            if (scheduled >= end) {
+                break;
+            }
+            if (!measuring && scheduled >= measureFrom) {
+                measuring = true;
+                log.info("Warm-up done, measuring");
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Scenario scenario = weighted[random.nextInt(weighted.length)];
+            EndpointStats endpoint = measuring ? stats.get(scenario) : null;
+            if (inFlight.get() >= config.maxInFlight()) {
+                if (endpoint != null) {
+                    endpoint.recordDropped();
+                }
+                continue;
+            }
+            HttpRequest request = scenario.request(data, random);
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - scheduled;
+                        inFlight.decrementAndGet();
+                        if (endpoint == null) {
+                            return;
+                        }
+                        if (error != null) {
+                            endpoint.recordFailure(latency, rootCause(error).getClass().getSimpleName());
+                        } else if (response.statusCode() >= 400) {
+                            endpoint.recordFailure(latency, "HTTP " + response.statusCode());
+                        } else {
+                            endpoint.recordSuccess(latency);
+                        }
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + TestData.REQUEST_TIMEOUT.plus(Duration.ofSeconds(5)).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        if (inFlight.get() > 0) {
+            log.warn("{} requests still outstanding after the drain timeout", inFlight.get());
+        }
+        return stats;
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,108 @@
+package com.micro.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of one load-test run, parsed from {@code key=value} arguments.
+ *
+ * <pre>
+ * rps=50                 target arrival rate (requests/second, open model)
+ * duration=60s           measured window (ms, s, m or h)
+ * warmup=15s             load applied before the measured window, not reported
+ * mix=checkout=30,...    scenario weights; see {@link Scenario} for the names
+ * virtual-threads=false  start the servlet services with the virtual-threads profile (needs Java 21)
+ * gateway=false          also start the gateway and send all traffic (and service-to-service calls) through it
+ * customers=200          customers seeded (and JWT subjects used)
+ * products=50            products seeded, with practically unlimited stock
+ * max-in-flight=2000     requests that may be outstanding; arrivals beyond it are counted as dropped
+ * services-dir=..        directory containing the service modules (their target/*.jar are launched)
+ * service-jvm-opts=-Xmx512m
+ * report=target/load-test-report.json
+ * export-orders=0        when set, seed this many orders into the order database and measure
+ *                        GET /api/v1/orders/export (rows/s, peak heap) instead of applying the request mix
+ * export-format=NDJSON   NDJSON or CSV
+ * </pre>
+ */
+public record LoadTestConfig(
+        double rps,
+        Duration duration,
+        Duration warmup,
+        Map<Scenario, Integer> mix,
+        boolean virtualThreads,
+        boolean gateway,
+        int customers,
+        int products,
+        int maxInFlight,
+        Path servicesDir,
+        String serviceJvmOpts,
+        Path report,
+        long exportOrders,
+        String exportFormat
+) {
+
+    static final String DEFAULT_MIX = "checkout=30,view-product=25,browse-products=15,view-customer=10,order-history=20";
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            String trimmed = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = trimmed.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            values.put(trimmed.substring(0, separator), trimmed.substring(separator + 1));
+        }
+        return new LoadTestConfig(
+                Double.parseDouble(values.getOrDefault("rps", "50")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                parseDuration(values.getOrDefault("warmup", "15s")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+                Boolean.parseBoolean(values.getOrDefault("gateway", "false")),
+                Integer.parseInt(values.getOrDefault("customers", "200")),
+                Integer.parseInt(values.getOrDefault("products", "50")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                Path.of(values.getOrDefault("services-dir", "..")).toAbsolutePath().normalize(),
+                values.getOrDefault("service-jvm-opts", "-Xmx512m"),
+                Path.of(values.getOrDefault("report", "target/load-test-report.json")),
+                Long.parseLong(values.getOrDefault("export-orders", "0")),
+                values.getOrDefault("export-format", "NDJSON").toUpperCase()
+        );
+    }
+
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+
+    static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario=weight but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                mix.put(Scenario.byName(parts[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The scenario mix is empty");
+        }
+        return mix;
+    }
+}
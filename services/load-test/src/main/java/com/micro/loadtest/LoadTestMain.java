@@ -0,0 +1,61 @@
+package com.micro.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Entry point of the load-test harness.
+ * <ol>
+ *     <li>Starts the embedded infrastructure ({@link Infrastructure}).</li>
+ *     <li>Launches the service jars against it ({@link ServiceCluster}).</li>
+ *     <li>Seeds customers and products and mints their tokens ({@link TestData}).</li>
+ *     <li>Applies the configured load ({@link LoadDriver}) and writes the report ({@link LoadTestReport}).</li>
+ * </ol>
+ * Arguments are {@code key=value} pairs, see {@link LoadTestConfig}. Typical comparisons:
+ * <pre>
+ * rps=200 duration=2m                                   baseline
+ * rps=200 duration=2m virtual-threads=true              same load on virtual threads (Java 21)
+ * rps=200 mix=checkout=100                              blocking checkout only
+ * rps=200 mix=checkout-reactive=100                     reactive checkout (/api/v2/orders) only
+ * rps=200 gateway=true                                  through the gateway (JWT validation, rate limiting)
+ * export-orders=10000000                                order export throughput and heap on 10M orders ({@link OrderExportRun})
+ * </pre>
+ */
+@Slf4j
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        int status = 0;
+        try (Infrastructure infrastructure = Infrastructure.start();
+             ServiceCluster services = ServiceCluster.start(config, infrastructure, client)) {
+            if (config.exportOrders() > 0) {
+                OrderExportRun.Result result = new OrderExportRun(config, infrastructure.postgresDatabase("order"),
+                        services.baseUrl("order"), client, objectMapper).run();
+                LoadTestReport.writeExport(config, result, objectMapper, System.out);
+            } else {
+                TestData data = TestData.seed(config, services, infrastructure.jwtIssuer(), client, objectMapper);
+                Map<Scenario, EndpointStats> stats = new LoadDriver(config, data, client).run();
+                LoadTestReport.write(config, stats, infrastructure.receivedEmails(), objectMapper, System.out);
+            }
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            status = 1;
+        }
+        // Embedded Kafka and the HTTP client leave non-daemon threads behind
+        System.exit(status);
+    }
+}
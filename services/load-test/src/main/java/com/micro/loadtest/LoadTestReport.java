@@ -0,0 +1,143 @@
+package com.micro.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints the per-endpoint results and writes them, with the run settings, as JSON.
+ * Latencies are in milliseconds, throughput in successful requests per second of the measured window.
+ * Export runs ({@code export-orders}) get their own table and report.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private LoadTestReport() {
+    }
+
+    static void write(LoadTestConfig config, Map<Scenario, EndpointStats> stats, int emailsDelivered,
+                      ObjectMapper objectMapper, PrintStream out) throws IOException {
+        double seconds = config.duration().toMillis() / 1000.0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+
+        out.printf("%n%-36s %8s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "ok", "failed", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        stats.forEach((scenario, endpoint) -> {
+            Histogram latencies = endpoint.latencies();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("scenario", scenario.scenarioName());
+            result.put("succeeded", endpoint.succeeded());
+            result.put("failed", endpoint.failed());
+            result.put("dropped", endpoint.dropped());
+            result.put("throughput", endpoint.succeeded() / seconds);
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                percentiles.put("p" + trim(percentile), millis(latencies.getValueAtPercentile(percentile)));
+            }
+            result.put("latencyMillis", Map.of(
+                    "mean", latencies.getTotalCount() == 0 ? 0.0 : latencies.getMean() / 1000.0,
+                    "percentiles", percentiles,
+                    "max", millis(latencies.getMaxValue())
+            ));
+            result.put("failures", endpoint.failures());
+            endpoints.put(scenario.endpoint(), result);
+
+            out.printf("%-36s %8d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    scenario.endpoint(), endpoint.succeeded(), endpoint.failed(), endpoint.dropped(),
+                    endpoint.succeeded() / seconds,
+                    percentiles.get("p50"), percentiles.get("p90"), percentiles.get("p99"), percentiles.get("p99.9"),
+                    millis(latencies.getMaxValue()));
+            endpoint.failures().forEach((reason, count) -> out.printf("    %-32s %8d%n", reason, count));
+        });
+        out.printf("%ne-mails delivered by the notification service: %d%n", emailsDelivered);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("settings", Map.of(
+                "rps", config.rps(),
+                "durationSeconds", config.duration().toSeconds(),
+                "warmupSeconds", config.warmup().toSeconds(),
+                "mix", mixByName(config),
+                "virtualThreads", config.virtualThreads(),
+                "gateway", config.gateway(),
+                "customers", config.customers(),
+                "products", config.products(),
+                "javaVersion", System.getProperty("java.version")
+        ));
+        report.put("endpoints", endpoints);
+        report.put("emailsDelivered", emailsDelivered);
+        writeJson(config, report, objectMapper, out);
+    }
+
+    /**
+     * Prints and writes the result of an {@code export-orders} run. Heap figures are in MiB.
+     */
+    static void writeExport(LoadTestConfig config, OrderExportRun.Result result, ObjectMapper objectMapper,
+                            PrintStream out) throws IOException {
+        out.printf("%n%-10s %12s %12s %10s %12s %12s %10s %14s %12s%n",
+                "format", "orders", "rows", "MB", "rows/s", "orders/s", "TTFB ms", "baseline MiB", "peak MiB");
+        out.printf("%-10s %12d %12d %10.1f %12.0f %12.0f %10.1f %14.1f %12.1f%n",
+                result.format(), result.orders(), result.rows(), result.bytes() / 1e6,
+                result.rowsPerSecond(), result.ordersPerSecond(), result.firstByte().toNanos() / 1e6,
+                mebibytes(result.baselineHeap()), mebibytes(result.peakHeap()));
+
+        Map<String, Object> export = new LinkedHashMap<>();
+        export.put("format", result.format());
+        export.put("orders", result.orders());
+        export.put("rows", result.rows());
+        export.put("bytes", result.bytes());
+        export.put("seconds", result.seconds());
+        export.put("rowsPerSecond", result.rowsPerSecond());
+        export.put("ordersPerSecond", result.ordersPerSecond());
+        export.put("timeToFirstByteMillis", result.firstByte().toNanos() / 1e6);
+        export.put("baselineHeapMiB", mebibytes(result.baselineHeap()));
+        export.put("peakHeapMiB", mebibytes(result.peakHeap()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("settings", Map.of(
+                "exportOrders", config.exportOrders(),
+                "exportFormat", config.exportFormat(),
+                "serviceJvmOpts", config.serviceJvmOpts(),
+                "virtualThreads", config.virtualThreads(),
+                "javaVersion", System.getProperty("java.version")
+        ));
+        report.put("export", export);
+        writeJson(config, report, objectMapper, out);
+    }
+
+    private static void writeJson(LoadTestConfig config, Map<String, Object> report, ObjectMapper objectMapper,
+                                  PrintStream out) throws IOException {
+        Path file = config.report().toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        out.printf("Report written to %s%n", file);
+    }
+
+    private static double mebibytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static Map<String, Integer> mixByName(LoadTestConfig config) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((scenario, weight) -> mix.put(scenario.scenarioName(), weight));
+        return mix;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String trim(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+}
@@ -0,0 +1,106 @@
+package com.micro.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stand-in for Keycloak: serves a JWK set under the same realm path the gateway expects and mints RS256 access tokens.
+ * <p>
+ * Only what the gateway's resource server uses is implemented: the OpenID discovery document and the
+ * {@code /protocol/openid-connect/certs} key set. Tokens are issued in-process, one per seeded customer.
+ */
+public final class MockJwtIssuer implements AutoCloseable {
+
+    static final String REALM_PATH = "/realms/microservice";
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(4);
+
+    private final HttpServer server;
+    private final RSAKey signingKey;
+    private final RSASSASigner signer;
+
+    private MockJwtIssuer(HttpServer server, RSAKey signingKey) throws JOSEException {
+        this.server = server;
+        this.signingKey = signingKey;
+        this.signer = new RSASSASigner(signingKey);
+    }
+
+    static MockJwtIssuer start() throws IOException, JOSEException {
+        RSAKey key = new RSAKeyGenerator(2048)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.RS256)
+                .keyID(UUID.randomUUID().toString())
+                .generate();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        MockJwtIssuer issuer = new MockJwtIssuer(server, key);
+        String jwks = new JWKSet(key.toPublicJWK()).toString();
+        server.createContext(REALM_PATH + "/protocol/openid-connect/certs", exchange -> respond(exchange, jwks));
+        server.createContext(REALM_PATH + "/.well-known/openid-configuration", exchange -> respond(exchange, """
+                {"issuer":"%s","jwks_uri":"%s","id_token_signing_alg_values_supported":["RS256"]}"""
+                .formatted(issuer.issuerUri(), issuer.jwkSetUri())));
+        server.start();
+        return issuer;
+    }
+
+    String issuerUri() {
+        return "http://localhost:" + server.getAddress().getPort() + REALM_PATH;
+    }
+
+    String jwkSetUri() {
+        return issuerUri() + "/protocol/openid-connect/certs";
+    }
+
+    String issueToken(String subject) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuerUri())
+                .subject(subject)
+                .audience(List.of("account"))
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .notBeforeTime(Date.from(now.minusSeconds(5)))
+                .expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+                .claim("scope", "openid profile email")
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Cannot sign token", e);
+        }
+        return jwt.serialize();
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
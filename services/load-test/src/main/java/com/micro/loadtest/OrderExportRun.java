@@ -0,0 +1,177 @@
+package com.micro.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and memory of the streaming order export ({@code GET /api/v1/orders/export}) on a large table.
+ * <p>
+ * Orders (three lines each) are inserted straight into the order database with {@code generate_series}, a million
+ * orders per statement, so seeding 10M orders takes minutes instead of hours of API calls. The whole export is then
+ * read and counted while a sampler polls the order service's heap ({@code jvm.memory.used}, area=heap) through the
+ * actuator every 100 ms; the highest sample is reported as peak heap. With a constant-memory export it stays flat
+ * however many orders are seeded.
+ */
+@Slf4j
+final class OrderExportRun {
+
+    private static final long SEED_CHUNK = 1_000_000;
+    private static final int LINES_PER_ORDER = 3;
+    private static final Duration HEAP_SAMPLE_INTERVAL = Duration.ofMillis(100);
+
+    private static final String INSERT_ORDERS = """
+            insert into customer_order (id, reference, total_amount, payment_method, customer_id, created_date)
+            select n, 'EXPORT-' || n, 59.97, 'VISA', 'customer-' || (n % 5000), timestamp '2020-01-01' + n * interval '10 seconds'
+            from generate_series(?, ?) n
+            """;
+
+    private static final String INSERT_LINES = """
+            insert into customer_line (id, order_id, product_id, quantity, unit_price)
+            select (n - 1) * 3 + k, n, 1 + (n + k) % 50, k, 19.99
+            from generate_series(?, ?) n cross join generate_series(1, 3) k
+            """;
+
+    /**
+     * @param orders        orders seeded and exported
+     * @param format        NDJSON (one row per order) or CSV (one row per order line, plus the header)
+     * @param rows          rows received, header excluded
+     * @param bytes         response body size
+     * @param firstByte     time until the first body byte arrived
+     * @param elapsed       time until the body was read to the end
+     * @param baselineHeap  heap used by the order service right before the export, in bytes
+     * @param peakHeap      highest heap usage sampled during the export, in bytes
+     */
+    record Result(long orders, String format, long rows, long bytes, Duration firstByte, Duration elapsed,
+                  long baselineHeap, long peakHeap) {
+
+        double rowsPerSecond() {
+            return rows / seconds();
+        }
+
+        double ordersPerSecond() {
+            return orders / seconds();
+        }
+
+        double seconds() {
+            return elapsed.toNanos() / 1e9;
+        }
+    }
+
+    private final LoadTestConfig config;
+    private final DataSource orderDatabase;
+    private final String orderUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+
+    OrderExportRun(LoadTestConfig config, DataSource orderDatabase, String orderUrl, HttpClient client, ObjectMapper objectMapper) {
+        this.config = config;
+        this.orderDatabase = orderDatabase;
+        this.orderUrl = orderUrl;
+        this.client = client;
+        this.objectMapper = objectMapper;
+    }
+
+    Result run() throws Exception {
+        seed(config.exportOrders());
+
+        long baselineHeap = heapUsed();
+        AtomicLong peakHeap = new AtomicLong(baselineHeap);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            try {
+                peakHeap.accumulateAndGet(heapUsed(), Math::max);
+            } catch (Exception e) {
+                log.debug("Heap sample failed", e);
+            }
+        }, 0, HEAP_SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        try {
+            log.info("Exporting {} orders as {}", config.exportOrders(), config.exportFormat());
+            HttpRequest request = HttpRequest.newBuilder(URI.create(orderUrl + "/api/v1/orders/export?format=" + config.exportFormat()))
+                    .GET()
+                    .build(); // no timeout: a full export legitimately takes minutes
+            long start = System.nanoTime();
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() != 200) {
+                response.body().close();
+                throw new IllegalStateException("Export failed with HTTP " + response.statusCode());
+            }
+            long firstByte = 0;
+            long bytes = 0;
+            long lines = 0;
+            byte[] buffer = new byte[64 * 1024];
+            try (InputStream body = response.body()) {
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    if (bytes == 0 && read > 0) {
+                        firstByte = System.nanoTime() - start;
+                    }
+                    bytes += read;
+                    for (int i = 0; i < read; i++) {
+                        if (buffer[i] == '\n') {
+                            lines++;
+                        }
+                    }
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            long rows = "CSV".equalsIgnoreCase(config.exportFormat()) ? Math.max(lines - 1, 0) : lines;
+            return new Result(config.exportOrders(), config.exportFormat(), rows, bytes,
+                    Duration.ofNanos(firstByte), Duration.ofNanos(elapsed), baselineHeap, peakHeap.get());
+        } finally {
+            sampler.shutdownNow();
+        }
+    }
+
+    private void seed(long orders) throws SQLException {
+        long start = System.nanoTime();
+        try (Connection connection = orderDatabase.getConnection();
+             PreparedStatement insertOrders = connection.prepareStatement(INSERT_ORDERS);
+             PreparedStatement insertLines = connection.prepareStatement(INSERT_LINES)) {
+            for (long from = 1; from <= orders; from += SEED_CHUNK) {
+                long to = Math.min(from + SEED_CHUNK - 1, orders);
+                insertOrders.setLong(1, from);
+                insertOrders.setLong(2, to);
+                insertOrders.executeUpdate();
+                insertLines.setLong(1, from);
+                insertLines.setLong(2, to);
+                insertLines.executeUpdate();
+                log.info("Seeded {} of {} orders", to, orders);
+            }
+            try (Statement statement = connection.createStatement()) {
+                // Keep later inserts of the services clear of the seeded ids
+                statement.execute("select setval('customer_order_seq', " + (orders + 1) + ")");
+                statement.execute("select setval('customer_line_seq', " + (orders * LINES_PER_ORDER + 1) + ")");
+                statement.execute("vacuum analyze customer_order, customer_line");
+            }
+        }
+        log.info("Seeded {} orders and {} lines in {} s", orders, orders * LINES_PER_ORDER,
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    private long heapUsed() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(orderUrl + "/actuator/metrics/jvm.memory.used?tag=area:heap"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        return objectMapper.readTree(body).path("measurements").path(0).path("value").asLong();
+    }
+}
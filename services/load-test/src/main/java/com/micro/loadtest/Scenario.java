@@ -0,0 +1,106 @@
+package com.micro.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The requests the load driver can send. Each one is a single HTTP call against a seeded, random customer/product.
+ * <p>
+ * Checkouts buy 1-4 distinct products, 1-3 units each, with a random payment method, so every checkout
+ * goes through customer lookup, purchase, payment, both Kafka events and the notification e-mails.
+ */
+public enum Scenario {
+
+    CHECKOUT("checkout", "POST /api/v1/orders") {
+        @Override
+        HttpRequest request(TestData data, SplittableRandom random) {
+            return data.post(data.orderUrl() + "/api/v1/orders", orderBody(data, random), random);
+        }
+    },
+    CHECKOUT_REACTIVE("checkout-reactive", "POST /api/v2/orders") {
+        @Override
+        HttpRequest request(TestData data, SplittableRandom random) {
+            return data.post(data.orderUrl() + "/api/v2/orders", orderBody(data, random), random);
+        }
+    },
+    CHECKOUT_BATCH("checkout-batch", "POST /api/v1/orders/batch") {
+        @Override
+        HttpRequest request(TestData data, SplittableRandom random) {
+            List<Map<String, Object>> orders = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                orders.add(orderBody(data, random));
+            }
+            return data.post(data.orderUrl() + "/api/v1/orders/batch", Map.of("orders", orders), random);
+        }
+    },
+    BROWSE_PRODUCTS("browse-products", "GET /api/v1/products") {
+        @Override
+        HttpRequest request(TestData data, SplittableRandom random) {
+            return data.get(data.productUrl() + "/api/v1/products", random);
+        }
+    },
+    VIEW_PRODUCT("view-product", "GET /api/v1/products/{id}") {
+        @Override
+        HttpRequest request(TestData data, SplittableRandom random) {
+            return data.get(data.productUrl() + "/api/v1/products/" + data.randomProductId(random), random);
+        }
+    },
+    VIEW_CUSTOMER("view-customer", "GET /api/v1/customers/{id}") {
+        @Override
+        HttpRequest request(TestData data, SplittableRandom random) {
+            return data.get(data.customerUrl() + "/api/v1/customers/" + data.randomCustomerId(random), random);
+        }
+    },
+    ORDER_HISTORY("order-history", "GET /api/v1/orders/customer/{id}") {
+        @Override
+        HttpRequest request(TestData data, SplittableRandom random) {
+            return data.get(data.orderUrl() + "/api/v1/orders/customer/" + data.randomCustomerId(random) + "?size=20", random);
+        }
+    };
+
+    private static final String[] PAYMENT_METHODS = {"PAYPAL", "CREDIT_CARD", "VISA", "MASTER_CARD", "BITCOIN"};
+
+    private final String scenarioName;
+    private final String endpoint;
+
+    Scenario(String scenarioName, String endpoint) {
+        this.scenarioName = scenarioName;
+        this.endpoint = endpoint;
+    }
+
+    abstract HttpRequest request(TestData data, SplittableRandom random);
+
+    public String scenarioName() {
+        return scenarioName;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public static Scenario byName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.scenarioName.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + name);
+    }
+
+    static Map<String, Object> orderBody(TestData data, SplittableRandom random) {
+        List<Map<String, Object>> products = new ArrayList<>();
+        for (Integer productId : data.randomDistinctProductIds(random, 1 + random.nextInt(4))) {
+            products.add(Map.of("productId", productId, "quantity", 1 + random.nextInt(3)));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("reference", data.nextOrderReference());
+        body.put("paymentMethod", PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)]);
+        body.put("customerId", data.randomCustomerId(random));
+        body.put("products", products);
+        return body;
+    }
+}
@@ -0,0 +1,255 @@
+package com.micro.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Runs the services' Spring Boot jars as child processes wired to the {@link Infrastructure}.
+ * <p>
+ * Each service gets the same configuration it would get from the config server: the YAML files of
+ * {@code config-server/src/main/resources/configurations} are loaded directly (application + service name,
+ * plus the {@code virtual-threads} profile when requested). Command-line properties then replace the
+ * infrastructure endpoints and the ports; Eureka, the config server and Zipkin are switched off.
+ * Output goes to {@code target/logs/<service>.log}.
+ */
+@Slf4j
+public final class ServiceCluster implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final List<String> SERVICES = List.of("customer", "product", "payment", "notification", "order");
+
+    private final Map<String, Integer> ports = new LinkedHashMap<>();
+    private final List<Process> processes = new ArrayList<>();
+    private final LoadTestConfig config;
+
+    private ServiceCluster(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    static ServiceCluster start(LoadTestConfig config, Infrastructure infrastructure, HttpClient client) throws Exception {
+        ServiceCluster cluster = new ServiceCluster(config);
+        try {
+            cluster.startAll(infrastructure, client);
+        } catch (Exception | Error e) {
+            cluster.close();
+            throw e;
+        }
+        return cluster;
+    }
+
+    private void startAll(Infrastructure infrastructure, HttpClient client) throws Exception {
+        for (String service : SERVICES) {
+            ports.put(service, freePort());
+        }
+        if (config.gateway()) {
+            ports.put("gateway", freePort());
+        }
+        Files.createDirectories(Path.of("target", "logs"));
+
+        for (String service : ports.keySet()) {
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(List.of(config.serviceJvmOpts().trim().split("\\s+")));
+            command.add("-jar");
+            command.add(jar(service).toString());
+            command.addAll(commonArguments(service));
+            command.addAll(serviceArguments(service, infrastructure));
+            Path logFile = Path.of("target", "logs", service + ".log");
+            log.info("Starting {} on port {} (log: {})", service, ports.get(service), logFile);
+            processes.add(new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(logFile.toFile())
+                    .start());
+        }
+
+        int index = 0;
+        for (String service : ports.keySet()) {
+            awaitHealthy(service, processes.get(index++), client);
+        }
+    }
+
+    private List<String> commonArguments(String service) {
+        String configurations = config.servicesDir().resolve("config-server/src/main/resources/configurations").toUri().toString();
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=" + ports.get(service),
+                "--spring.config.name=application," + service + "-service",
+                "--spring.config.additional-location=optional:" + configurations,
+                "--spring.cloud.config.enabled=false",
+                "--eureka.client.enabled=false",
+                "--management.tracing.enabled=false",
+                "--management.endpoints.web.exposure.include=health,metrics" // metrics: heap samples of the export run
+        ));
+        if (config.virtualThreads() && !service.equals("gateway")) {
+            arguments.add("--spring.profiles.active=virtual-threads");
+        }
+        return arguments;
+    }
+
+    private List<String> serviceArguments(String service, Infrastructure infrastructure) {
+        String kafka = infrastructure.kafkaBootstrapServers();
+        List<String> kafkaArguments = List.of(
+                "--spring.kafka.bootstrap-servers=" + kafka,
+                "--spring.kafka.producer.bootstrap-servers=" + kafka,
+                "--spring.kafka.consumer.bootstrap-servers=" + kafka
+        );
+        List<String> arguments = new ArrayList<>();
+        switch (service) {
+            case "customer" -> {
+                arguments.addAll(mongoArguments(infrastructure));
+                arguments.addAll(kafkaArguments);
+            }
+            case "notification" -> {
+                arguments.addAll(mongoArguments(infrastructure));
+                arguments.addAll(kafkaArguments);
+                arguments.add("--spring.mail.host=localhost");
+                arguments.add("--spring.mail.port=" + infrastructure.smtpPort());
+            }
+            case "product" -> arguments.addAll(postgresArguments("product", infrastructure));
+            case "payment" -> {
+                arguments.addAll(postgresArguments("payment", infrastructure));
+                arguments.addAll(kafkaArguments);
+            }
+            case "order" -> {
+                arguments.addAll(postgresArguments("order", infrastructure));
+                arguments.addAll(kafkaArguments);
+                arguments.add("--application.reactive.r2dbc.url=r2dbc:postgresql://localhost:" + infrastructure.postgresPort() + "/order");
+                // Service-to-service calls go through the gateway when it runs, like in docker-compose
+                String customerBase = config.gateway() ? baseUrl("gateway") : baseUrl("customer");
+                String productBase = config.gateway() ? baseUrl("gateway") : baseUrl("product");
+                String paymentBase = config.gateway() ? baseUrl("gateway") : baseUrl("payment");
+                arguments.add("--application.config.customer-url=" + customerBase + "/api/v1/customers");
+                arguments.add("--application.config.product-url=" + productBase + "/api/v1/products");
+                arguments.add("--application.config.payment-url=" + paymentBase + "/api/v1/payments");
+            }
+            case "gateway" -> {
+                MockJwtIssuer issuer = infrastructure.jwtIssuer();
+                arguments.add("--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + issuer.issuerUri());
+                arguments.add("--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + issuer.jwkSetUri());
+                // lb:// routes resolve through Spring Cloud's simple discovery client instead of Eureka
+                for (String target : SERVICES) {
+                    arguments.add("--spring.cloud.discovery.client.simple.instances[" + target.toUpperCase() + "-SERVICE][0].uri="
+                            + baseUrl(target));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown service " + service);
+        }
+        return arguments;
+    }
+
+    private static List<String> mongoArguments(Infrastructure infrastructure) {
+        return List.of(
+                "--spring.data.mongodb.host=" + infrastructure.mongoHost(),
+                "--spring.data.mongodb.port=" + infrastructure.mongoPort()
+        );
+    }
+
+    private static List<String> postgresArguments(String database, Infrastructure infrastructure) {
+        // The embedded cluster trusts local connections; its superuser is "postgres"
+        return List.of(
+                "--spring.datasource.url=jdbc:postgresql://localhost:" + infrastructure.postgresPort() + "/" + database,
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres"
+        );
+    }
+
+    private Path jar(String service) throws IOException {
+        Path target = config.servicesDir().resolve(service).resolve("target");
+        if (Files.isDirectory(target)) {
+            try (Stream<Path> files = Files.list(target)) {
+                var jar = files.filter(file -> file.getFileName().toString().matches(service + "-.*\\.jar"))
+                        .findFirst();
+                if (jar.isPresent()) {
+                    return jar.get();
+                }
+            }
+        }
+        throw new IllegalStateException("No jar for " + service + " in " + target
+                + "; build it first with ./mvnw -B package -DskipTests");
+    }
+
+    private void awaitHealthy(String service, Process process, HttpClient client) throws InterruptedException {
+        URI health = URI.create(baseUrl(service) + "/actuator/health");
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service + " exited with code " + process.exitValue()
+                        + "; see target/logs/" + service + ".log");
+            }
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(health).timeout(Duration.ofSeconds(2)).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    log.info("{} is up", service);
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(service + " did not become healthy within " + STARTUP_TIMEOUT
+                + "; see target/logs/" + service + ".log");
+    }
+
+    String baseUrl(String service) {
+        return "http://localhost:" + ports.get(service);
+    }
+
+    String productUrl() {
+        return baseUrl("product");
+    }
+
+    String customerUrl() {
+        return baseUrl("customer");
+    }
+
+    String trafficOrderUrl() {
+        return config.gateway() ? baseUrl("gateway") : baseUrl("order");
+    }
+
+    String trafficProductUrl() {
+        return config.gateway() ? baseUrl("gateway") : baseUrl("product");
+    }
+
+    String trafficCustomerUrl() {
+        return config.gateway() ? baseUrl("gateway") : baseUrl("customer");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.micro.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Customers, products and bearer tokens the scenarios pick from, plus helpers to build requests.
+ * <p>
+ * Seeding goes straight to the services (not through the gateway). Products are created with practically
+ * unlimited stock so purchases never start failing in the middle of a run.
+ */
+@Slf4j
+public final class TestData {
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String orderUrl;
+    private final String productUrl;
+    private final String customerUrl;
+    private final List<Integer> productIds;
+    private final List<String> customerIds;
+    private final List<String> tokens;
+    private final ObjectMapper objectMapper;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong orderSequence = new AtomicLong();
+
+    private TestData(String orderUrl, String productUrl, String customerUrl, List<Integer> productIds,
+                     List<String> customerIds, List<String> tokens, ObjectMapper objectMapper) {
+        this.orderUrl = orderUrl;
+        this.productUrl = productUrl;
+        this.customerUrl = customerUrl;
+        this.productIds = productIds;
+        this.customerIds = customerIds;
+        this.tokens = tokens;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Seeds customers and products and mints one token per customer.
+     *
+     * The returned data sends the load to {@link ServiceCluster#trafficOrderUrl()} and friends,
+     * i.e. to the gateway when it runs.
+     */
+    static TestData seed(LoadTestConfig config, ServiceCluster services, MockJwtIssuer issuer,
+                         HttpClient client, ObjectMapper objectMapper) throws IOException, InterruptedException {
+        // Products: reuse the category of the products inserted by the product service's migrations
+        JsonNode existing = objectMapper.readTree(send(client, HttpRequest.newBuilder(URI.create(services.productUrl() + "/api/v1/products"))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build()));
+        if (existing.isEmpty()) {
+            throw new IllegalStateException("The product service has no products; its Flyway migrations did not run");
+        }
+        int categoryId = existing.get(0).get("categoryId").asInt();
+        List<Integer> productIds = new ArrayList<>();
+        for (int i = 0; i < config.products(); i++) {
+            Map<String, Object> product = new LinkedHashMap<>();
+            product.put("name", "Load test product " + i);
+            product.put("description", "Seeded by the load-test harness");
+            product.put("availableQuantity", 1_000_000_000d);
+            product.put("price", 5 + (i * 7) % 200 + 0.99);
+            product.put("categoryId", categoryId);
+            productIds.add(Integer.parseInt(unquote(send(client, postJson(services.productUrl() + "/api/v1/products", product, objectMapper)))));
+        }
+
+        List<String> customerIds = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < config.customers(); i++) {
+            Map<String, Object> customer = new LinkedHashMap<>();
+            customer.put("firstname", "Load");
+            customer.put("lastname", "Tester " + i);
+            customer.put("email", "load-" + runId + "-" + i + "@example.com");
+            customer.put("address", Map.of("street", "Test street", "houseNumber", Integer.toString(i), "zipCode", "10115"));
+            String customerId = unquote(send(client, postJson(services.customerUrl() + "/api/v1/customers", customer, objectMapper)));
+            customerIds.add(customerId);
+            tokens.add(issuer.issueToken(customerId));
+        }
+        log.info("Seeded {} products and {} customers", productIds.size(), customerIds.size());
+
+        return new TestData(services.trafficOrderUrl(), services.trafficProductUrl(), services.trafficCustomerUrl(),
+                List.copyOf(productIds), List.copyOf(customerIds), List.copyOf(tokens), objectMapper);
+    }
+
+    String orderUrl() {
+        return orderUrl;
+    }
+
+    String productUrl() {
+        return productUrl;
+    }
+
+    String customerUrl() {
+        return customerUrl;
+    }
+
+    Integer randomProductId(SplittableRandom random) {
+        return productIds.get(random.nextInt(productIds.size()));
+    }
+
+    String randomCustomerId(SplittableRandom random) {
+        return customerIds.get(random.nextInt(customerIds.size()));
+    }
+
+    Set<Integer> randomDistinctProductIds(SplittableRandom random, int count) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        int wanted = Math.min(count, productIds.size());
+        while (ids.size() < wanted) {
+            ids.add(randomProductId(random));
+        }
+        return ids;
+    }
+
+    String nextOrderReference() {
+        return "LT-" + runId + "-" + orderSequence.incrementAndGet();
+    }
+
+    HttpRequest get(String url, SplittableRandom random) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                .GET()
+                .build();
+    }
+
+    HttpRequest post(String url, Object body, SplittableRandom random) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body, objectMapper)))
+                .build();
+    }
+
+    private static HttpRequest postJson(String url, Object body, ObjectMapper objectMapper) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body, objectMapper)))
+                .build();
+    }
+
+    private static byte[] toJson(Object body, ObjectMapper objectMapper) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    private static String send(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " failed with "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        return trimmed.startsWith("\"") && trimmed.endsWith("\"") ? trimmed.substring(1, trimmed.length() - 1) : trimmed;
+    }
+}
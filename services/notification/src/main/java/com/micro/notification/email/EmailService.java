@@ -9,7 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
@@ -27,7 +26,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * EmailService
  *
  * Handles sending notification emails (order confirmation, payment success) to customers
- * using templated HTML content and asynchronous delivery via JavaMail.
+ * using templated HTML content and delivery via JavaMail.
  *
  * <b>
  *     Core Responsibilities:
@@ -35,7 +34,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * <ul>
  *   <li>Sends templated email notifications using Thymeleaf HTML templates.</li>
  *   <li>Handles both payment success and order confirmation scenarios.</li>
- *   <li>Uses Spring's @Async to send emails in the background, not blocking service threads.</li>
+ *   <li>Sends on the caller's thread: the Kafka workers of KeyOrderedProcessor, so the emails of one order
+ *       go out in event order and a delivery failure reaches the listener's error handling.</li>
  *   <li>Logs email delivery results or problems for tracing/debugging.</li>
  * </ul>
  *
@@ -50,7 +50,6 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  *   <li><b>@Service:</b> Makes this a Spring bean, available for injection.</li>
  *   <li><b>@Slf4j:</b> Adds SLF4J logger 'log' field for logging operations.</li>
  *   <li><b>@RequiredArgsConstructor:</b> Lombok: generates constructor for final dependencies.</li>
- *   <li><b>@Async:</b> Marks methods for asynchronous execution.</li>
  * </ul>
  */
 @Service
@@ -62,15 +61,14 @@ public class EmailService {
     private final SpringTemplateEngine templateEngine;
     /**
      * Sends a payment success email to the specified customer.
-     * Uses a Thymeleaf template for the email body. Executes asynchronously.
+     * Uses a Thymeleaf template for the email body. Executes synchronously on the caller's thread.
      *
      * @param destinationEmail  Customer email address
      * @param customerName      Customer full name
      * @param amount            Payment amount
      * @param orderReference    Reference code for the order
-     * @throws MessagingException If email delivery fails
+     * @throws MessagingException If the message cannot be built (SMTP failures surface as MailException)
      */
-    @Async
     public void sendPaymentSuccessEmail(
             String destinationEmail,
             String customerName,
@@ -102,21 +100,21 @@ public class EmailService {
             log.info(String.format("INFO - Email successfully sent to %s with template %s ", destinationEmail, templateName));
         } catch (MessagingException e) {
             log.warn("WARNING - Cannot send Email to {} ", destinationEmail);
+            throw e;
         }
 
     }
     /**
      * Sends an order confirmation email to the specified customer, including product details.
-     * Uses a Thymeleaf template for the email body. Executes asynchronously.
+     * Uses a Thymeleaf template for the email body. Executes synchronously on the caller's thread.
      *
      * @param destinationEmail  Customer email address
      * @param customerName      Customer full name
      * @param amount            Total order amount
      * @param orderReference    Reference code for the order
      * @param products          List of ordered products
-     * @throws MessagingException If email delivery fails
+     * @throws MessagingException If the message cannot be built (SMTP failures surface as MailException)
      */
-    @Async
     public void sendOrderConfirmationEmail(
             String destinationEmail,
             String customerName,
@@ -150,6 +148,7 @@ public class EmailService {
             log.info(String.format("INFO - Email successfully sent to %s with template %s ", destinationEmail, templateName));
         } catch (MessagingException e) {
             log.warn("WARNING - Cannot send Email to {} ", destinationEmail);
+            throw e;
         }
 
     }
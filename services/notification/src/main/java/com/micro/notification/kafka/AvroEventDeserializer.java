@@ -0,0 +1,177 @@
+package com.micro.notification.kafka;
+
+import com.micro.notification.kafka.order.Customer;
+import com.micro.notification.kafka.order.OrderConfirmation;
+import com.micro.notification.kafka.order.Product;
+import com.micro.notification.kafka.payment.PaymentConfirmation;
+import com.micro.notification.kafka.payment.PaymentMethod;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AvroEventDeserializer
+ * ---------------------
+ * Kafka value deserializer for order-topic and payment-topic: Avro single-object encoded events, with a JSON fallback.
+ *
+ * Why do we need it?
+ * - The order and payment services write their events as Avro (OrderConfirmationAvroSerializer,
+ *   PaymentNotificationAvroSerializer): no field names and no type-mapping header in the records.
+ * - Records written as JSON before the switch (or by a service rolled back to JsonSerializer) must still be read.
+ *
+ * How does it work?
+ * - An Avro record starts with the single-object marker 0xC3 0x01 and the 8-byte fingerprint of its writer schema.
+ *   The fingerprint is looked up among {@link #SCHEMAS}, every version ever produced, and the record is resolved
+ *   against the latest version of its type, then mapped to the listener's records.
+ * - Anything else is handed to spring-kafka's JsonDeserializer, configured from the same consumer properties
+ *   (spring.json.trusted.packages, spring.json.type.mapping).
+ * - An unknown fingerprint fails with a SerializationException (handled by the container's error handler).
+ *
+ * Compatibility rules for the schemas in {@code src/main/resources/avro}:
+ * - A new version is a new file {@code <event>-v<n>.avsc}, copied to the producer and appended to {@link #SCHEMAS}
+ *   here; old versions are never edited or removed while records written with them may remain on the topic.
+ * - Only add fields with a default, or remove fields that had one; never rename a field or change its type,
+ *   and never remove an enum symbol. Versions then stay fully compatible (AvroEventDeserializerTests checks it).
+ * - Deploy the notification service before the producer that starts writing the new version.
+ */
+public class AvroEventDeserializer implements Deserializer<Object> {
+
+    /** Every schema version the producers may have written, oldest first per event. */
+    static final List<String> SCHEMAS = List.of(
+            "avro/order-confirmation-v1.avsc",
+            "avro/payment-confirmation-v1.avsc"
+    );
+
+    private static final byte[] MAGIC = {(byte) 0xC3, (byte) 0x01};
+    private static final String ORDER_CONFIRMATION = "com.micro.events.OrderConfirmation";
+    private static final String PAYMENT_CONFIRMATION = "com.micro.events.PaymentConfirmation";
+
+    private final SchemaStore.Cache writerSchemas = new SchemaStore.Cache();
+    private final Map<String, BinaryMessageDecoder<GenericRecord>> decoders = new LinkedHashMap<>();
+    private final JsonDeserializer<Object> json = new JsonDeserializer<>();
+
+    public AvroEventDeserializer() {
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        Map<String, Schema> readerSchemas = new LinkedHashMap<>();
+        for (String resource : SCHEMAS) {
+            Schema schema = loadSchema(resource);
+            writerSchemas.addSchema(schema);
+            readerSchemas.put(schema.getFullName(), schema); // the last version of each event is the reader schema
+        }
+        readerSchemas.forEach((name, schema) -> decoders.put(name, new BinaryMessageDecoder<>(model, schema, writerSchemas)));
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (!isAvro(data)) {
+            return headers == null ? json.deserialize(topic, data) : json.deserialize(topic, headers, data);
+        }
+        long fingerprint = ByteBuffer.wrap(data, MAGIC.length, Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).getLong();
+        Schema writer = writerSchemas.findByFingerprint(fingerprint);
+        if (writer == null) {
+            throw new SerializationException("Unknown Avro schema fingerprint " + Long.toHexString(fingerprint) + " on " + topic);
+        }
+        try {
+            GenericRecord record = decoders.get(writer.getFullName()).decode(data);
+            return switch (writer.getFullName()) {
+                case ORDER_CONFIRMATION -> toOrderConfirmation(record);
+                case PAYMENT_CONFIRMATION -> toPaymentConfirmation(record);
+                default -> throw new SerializationException("No mapping for Avro record " + writer.getFullName());
+            };
+        } catch (IOException | AvroRuntimeException e) {
+            throw new SerializationException("Cannot deserialize " + writer.getFullName() + " from " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+
+    static boolean isAvro(byte[] data) {
+        return data.length >= MAGIC.length + Long.BYTES && data[0] == MAGIC[0] && data[1] == MAGIC[1];
+    }
+
+    private static OrderConfirmation toOrderConfirmation(GenericRecord record) {
+        GenericRecord customer = (GenericRecord) record.get("customer");
+        List<Product> products = new ArrayList<>();
+        for (Object item : (List<?>) record.get("products")) {
+            GenericRecord product = (GenericRecord) item;
+            products.add(new Product(
+                    (Integer) product.get("productId"),
+                    string(product.get("name")),
+                    string(product.get("description")),
+                    (BigDecimal) product.get("price"),
+                    (Double) product.get("quantity")));
+        }
+        return new OrderConfirmation(
+                string(record.get("orderReference")),
+                (BigDecimal) record.get("totalAmount"),
+                PaymentMethod.valueOf(record.get("paymentMethod").toString()),
+                new Customer(
+                        string(customer.get("id")),
+                        string(customer.get("firstname")),
+                        string(customer.get("lastname")),
+                        string(customer.get("email"))),
+                products);
+    }
+
+    private static PaymentConfirmation toPaymentConfirmation(GenericRecord record) {
+        return new PaymentConfirmation(
+                string(record.get("orderReference")),
+                (BigDecimal) record.get("amount"),
+                PaymentMethod.valueOf(record.get("paymentMethod").toString()),
+                string(record.get("customerFirstname")),
+                string(record.get("customerLastname")),
+                string(record.get("customerEmail")));
+    }
+
+    /** Avro strings are decoded as Utf8. */
+    private static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    static Schema loadSchema(String resource) {
+        try (InputStream in = AvroEventDeserializer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing Avro schema " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
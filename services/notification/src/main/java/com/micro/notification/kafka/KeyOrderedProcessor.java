@@ -0,0 +1,111 @@
+package com.micro.notification.kafka;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * KeyOrderedProcessor
+ * -------------------
+ * Processes the records of a polled batch in parallel across keys and in offset order within a key.
+ *
+ * Why do we need it?
+ * - A listener container thread owns its partitions and handles their records one after the other, so a
+ *   notification consumer only used as many cores as it had partitions.
+ * - Events of one order (same key, same partition) must still be handled in the order they were produced.
+ *
+ * How does it work?
+ * - The batch is grouped by record key (order reference); each group runs on the worker pool, its records in
+ *   offset order. The handler does all of a record's work there, e-mail included (EmailService sends
+ *   synchronously), so per-key order covers what the customer receives.
+ * - The listener thread waits for every group, then the container commits the batch's offsets, so the next
+ *   poll of a partition never overtakes the current one.
+ * - A failing record stops its own key only. The lowest failed index is reported as a BatchListenerFailedException:
+ *   offsets before it are committed, it and the rest of the batch are redelivered. Records of other keys after
+ *   that index may therefore be handled twice (delivery was at-least-once already).
+ * - {@code notification.kafka.batch.keys} records the distinct keys per batch, i.e. the parallelism available
+ *   to application.kafka.workers.
+ */
+@Component
+public class KeyOrderedProcessor implements DisposableBean {
+
+    @FunctionalInterface
+    public interface RecordHandler<V> {
+        void handle(V value) throws Exception;
+    }
+
+    private record Failure(int index, Exception cause) {
+    }
+
+    private final ThreadPoolTaskExecutor workers = new ThreadPoolTaskExecutor();
+    private final MeterRegistry meterRegistry;
+
+    public KeyOrderedProcessor(
+            @Value("${application.kafka.workers:16}") int workerCount,
+            MeterRegistry meterRegistry
+    ) {
+        this.meterRegistry = meterRegistry;
+        workers.setCorePoolSize(workerCount);
+        workers.setMaxPoolSize(workerCount);
+        workers.setThreadNamePrefix("notification-worker-");
+        workers.initialize();
+    }
+
+    public <V> void process(String topic, List<ConsumerRecord<String, V>> records, RecordHandler<V> handler) {
+        Map<String, List<Integer>> byKey = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            byKey.computeIfAbsent(records.get(i).key(), key -> new ArrayList<>()).add(i);
+        }
+        DistributionSummary.builder("notification.kafka.batch.keys")
+                .description("Distinct record keys per polled batch")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .record(byKey.size());
+
+        Failure first = null;
+        if (byKey.size() == 1) {
+            first = processKey(records, byKey.values().iterator().next(), handler); // nothing to parallelize
+        } else {
+            List<CompletableFuture<Failure>> groups = new ArrayList<>(byKey.size());
+            for (List<Integer> indexes : byKey.values()) {
+                groups.add(CompletableFuture.supplyAsync(() -> processKey(records, indexes, handler), workers));
+            }
+            for (CompletableFuture<Failure> group : groups) {
+                Failure failure = group.join();
+                if (failure != null && (first == null || failure.index() < first.index())) {
+                    first = failure;
+                }
+            }
+        }
+        if (first != null) {
+            throw new BatchListenerFailedException("Failed to process record of " + topic, first.cause(), first.index());
+        }
+    }
+
+    private static <V> Failure processKey(List<ConsumerRecord<String, V>> records, List<Integer> indexes, RecordHandler<V> handler) {
+        for (int index : indexes) {
+            try {
+                handler.handle(records.get(index).value());
+            } catch (Exception e) {
+                return new Failure(index, e); // later records of this key wait for the redelivery
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdown();
+    }
+}
@@ -7,9 +7,11 @@ import com.micro.notification.notification.NotificationRepository;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.util.List;
 import static com.micro.notification.notification.NotificationType.ORDER_CONFIRMATION;
 import static com.micro.notification.notification.NotificationType.PAYMENT_CONFIRMATION;
 import static java.lang.String.format;
@@ -22,7 +24,8 @@ import static java.lang.String.format;
  *
  * <p><b>Core Responsibilities:</b>
  * <ul>
- *   <li>Consumes messages from "payment-topic" and "order-topic" Kafka topics.</li>
+ *   <li>Consumes messages from "payment-topic" and "order-topic" Kafka topics, in batches, with a configurable
+ *       number of consumer threads per topic (application.kafka.&lt;topic&gt;.concurrency).</li>
  *   <li>Packs each event (PaymentConfirmation/OrderConfirmation) into a Notification entity and saves it.</li>
  *   <li>Sends appropriate notification emails to customers on each event.</li>
  * </ul>
@@ -31,6 +34,7 @@ import static java.lang.String.format;
  * <ul>
  *   <li><b>NotificationRepository:</b> JPA repository for persisting notification records.</li>
  *   <li><b>EmailService:</b> Service for sending notification emails (payment and order).</li>
+ *   <li><b>KeyOrderedProcessor:</b> Processes a batch in parallel across order references, in order within one.</li>
  * </ul>
  *
  * <b>Annotations Used:</b>
@@ -43,7 +47,8 @@ import static java.lang.String.format;
  *
  * <b>Exception Handling:</b>
  * <ul>
- *   <li>Methods throw MessagingException if email sending fails.</li>
+ *   <li>A failing event (e.g. MessagingException) is reported with its batch index; the container commits the
+ *       offsets before it and redelivers the rest of the batch.</li>
  * </ul>
  */
 // Marks this class as a Spring-managed service component
@@ -58,17 +63,33 @@ public class NotificationsConsumer {
     private final NotificationRepository repository;
     // Service for sending notification emails
     private final EmailService emailService;
+    // Runs the records of a batch in parallel across order references
+    private final KeyOrderedProcessor processor;
 
     /**
-     * Consumes payment events from the Kafka "payment-topic".
-     * Logs the event, saves notification to DB, and sends payment success email.
+     * Consumes payment events from the Kafka "payment-topic", one polled batch at a time.
+     * Different order references are processed in parallel, the events of one order in sequence
+     * (see {@link KeyOrderedProcessor}).
+     *
+     * @param records The polled payment events, keyed by order reference.
+     */
+    @KafkaListener(
+            topics = "payment-topic",
+            concurrency = "${application.kafka.payment-topic.concurrency:3}", // Consumer threads, at most one per partition
+            clientIdPrefix = "payment-notifications",                         // client.id tag of the consumer (lag) metrics
+            batch = "true"
+    )
+    public void consumePaymentSuccessNotifications(List<ConsumerRecord<String, PaymentConfirmation>> records) {
+        processor.process("payment-topic", records, this::notifyPaymentSuccess);
+    }
+
+    /**
+     * Saves and e-mails one payment confirmation.
      *
      * @param paymentConfirmation The received payment event information.
      * @throws MessagingException If there is a failure in sending email notifications.
      */
-
-    @KafkaListener(topics = "payment-topic") // Listens to payment confirmation events from the "payment-topic" Kafka topic
-    public void consumePaymentSuccessNotifications(
+    private void notifyPaymentSuccess(
             PaymentConfirmation paymentConfirmation
     ) throws MessagingException {
         // Log receipt of Kafka message for auditing/troubleshooting
@@ -91,15 +112,30 @@ public class NotificationsConsumer {
                 paymentConfirmation.orderReference()
         );
     }
-/**
-        * Consumes order events from the Kafka "order-topic".
-            * Logs the event, saves notification to DB, and sends order confirmation email.
-            *
-            * @param orderConfirmation The received order event information.
-            * @throws MessagingException If there is a failure in sending email notifications.
-            */
-    @KafkaListener(topics = "order-topic")// Listens to order confirmation events from the "order-topic" Kafka topic
-    public void consumeOrderConfirmationNotifications(
+
+    /**
+     * Consumes order events from the Kafka "order-topic", one polled batch at a time.
+     * Different order references are processed in parallel, the events of one order in sequence.
+     *
+     * @param records The polled order events, keyed by order reference.
+     */
+    @KafkaListener(
+            topics = "order-topic",
+            concurrency = "${application.kafka.order-topic.concurrency:3}", // Consumer threads, at most one per partition
+            clientIdPrefix = "order-notifications",                         // client.id tag of the consumer (lag) metrics
+            batch = "true"
+    )
+    public void consumeOrderConfirmationNotifications(List<ConsumerRecord<String, OrderConfirmation>> records) {
+        processor.process("order-topic", records, this::notifyOrderConfirmation);
+    }
+
+    /**
+     * Saves and e-mails one order confirmation.
+     *
+     * @param orderConfirmation The received order event information.
+     * @throws MessagingException If there is a failure in sending email notifications.
+     */
+    private void notifyOrderConfirmation(
             OrderConfirmation orderConfirmation
     ) throws MessagingException {
         // Log receipt of Kafka message for auditing/troubleshooting
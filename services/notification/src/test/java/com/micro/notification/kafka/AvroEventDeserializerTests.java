@@ -0,0 +1,159 @@
+package com.micro.notification.kafka;
+
+import com.micro.notification.kafka.order.OrderConfirmation;
+import com.micro.notification.kafka.payment.PaymentConfirmation;
+import com.micro.notification.kafka.payment.PaymentMethod;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.apache.avro.SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AvroEventDeserializerTests {
+
+    private static final Map<String, String> CONFIG = Map.of(
+            "spring.json.trusted.packages", "*",
+            "spring.json.type.mapping", "orderConfirmation:" + OrderConfirmation.class.getName()
+                    + ",paymentConfirmation:" + PaymentConfirmation.class.getName());
+
+    @Test
+    void schemaVersionsAreFullyCompatible() {
+        Map<String, List<Schema>> versions = AvroEventDeserializer.SCHEMAS.stream()
+                .map(AvroEventDeserializer::loadSchema)
+                .collect(Collectors.groupingBy(Schema::getFullName));
+        versions.forEach((name, schemas) -> {
+            for (Schema reader : schemas) {
+                for (Schema writer : schemas) {
+                    assertThat(SchemaCompatibility.checkReaderWriterCompatibility(reader, writer).getType())
+                            .as("%s: reading %s with %s", name, writer, reader)
+                            .isEqualTo(COMPATIBLE);
+                }
+            }
+        });
+    }
+
+    @Test
+    void knowsTheSchemaOfEveryProducer() throws Exception {
+        Set<Long> known = AvroEventDeserializer.SCHEMAS.stream()
+                .map(AvroEventDeserializer::loadSchema)
+                .map(SchemaNormalization::parsingFingerprint64)
+                .collect(Collectors.toSet());
+        // The schema files the order and payment services encode with, from their source trees
+        List<Path> producerSchemas;
+        try (Stream<Path> files = Stream.of("../order", "../payment")
+                .map(service -> Path.of(service, "src/main/resources/avro"))
+                .flatMap(AvroEventDeserializerTests::schemaFiles)) {
+            producerSchemas = files.toList();
+        }
+
+        assertThat(producerSchemas).hasSize(2);
+        for (Path file : producerSchemas) {
+            Schema schema = new Schema.Parser().parse(file.toFile());
+            assertThat(known).as("fingerprint of %s", file).contains(SchemaNormalization.parsingFingerprint64(schema));
+        }
+    }
+
+    @Test
+    void readsAvroOrderConfirmation() throws Exception {
+        Schema schema = AvroEventDeserializer.loadSchema("avro/order-confirmation-v1.avsc");
+        GenericRecord customer = new GenericData.Record(schema.getField("customer").schema());
+        customer.put("id", "65f1c0ffee0000000000abcd");
+        customer.put("firstname", "Jane");
+        customer.put("lastname", "Doe");
+        customer.put("email", "jane.doe@example.com");
+        GenericRecord product = new GenericData.Record(schema.getField("products").schema().getElementType());
+        product.put("productId", 7);
+        product.put("name", "Keyboard");
+        product.put("price", new BigDecimal("19.99"));
+        product.put("quantity", 2.0);
+        GenericRecord order = new GenericData.Record(schema);
+        order.put("orderReference", "ORD-1");
+        order.put("totalAmount", new BigDecimal("39.98"));
+        order.put("paymentMethod", new GenericData.EnumSymbol(schema.getField("paymentMethod").schema(), "VISA"));
+        order.put("customer", customer);
+        order.put("products", List.of(product));
+
+        Object event = deserializer().deserialize("order-topic", encode(schema, order));
+
+        assertThat(event).isInstanceOfSatisfying(OrderConfirmation.class, confirmation -> {
+            assertThat(confirmation.orderReference()).isEqualTo("ORD-1");
+            assertThat(confirmation.totalAmount()).isEqualByComparingTo("39.98");
+            assertThat(confirmation.paymentMethod()).isEqualTo(PaymentMethod.VISA);
+            assertThat(confirmation.customer().email()).isEqualTo("jane.doe@example.com");
+            assertThat(confirmation.products()).singleElement().satisfies(line -> {
+                assertThat(line.productId()).isEqualTo(7);
+                assertThat(line.description()).isNull();
+                assertThat(line.price()).isEqualByComparingTo("19.99");
+                assertThat(line.quantity()).isEqualTo(2.0);
+            });
+        });
+    }
+
+    @Test
+    void fallsBackToJsonWithTypeHeader() {
+        var headers = new RecordHeaders();
+        headers.add("__TypeId__", "paymentConfirmation".getBytes(StandardCharsets.UTF_8));
+        byte[] json = """
+                {"orderReference":"ORD-2","amount":59.97,"paymentMethod":"PAYPAL",
+                 "customerFirstname":"Jane","customerLastname":"Doe","customerEmail":"jane.doe@example.com"}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        Object event = deserializer().deserialize("payment-topic", headers, json);
+
+        assertThat(event).isEqualTo(new PaymentConfirmation("ORD-2", new BigDecimal("59.97"), PaymentMethod.PAYPAL,
+                "Jane", "Doe", "jane.doe@example.com"));
+    }
+
+    @Test
+    void rejectsUnknownSchemaFingerprint() {
+        byte[] record = {(byte) 0xC3, 0x01, 1, 2, 3, 4, 5, 6, 7, 8, 0};
+
+        assertThatThrownBy(() -> deserializer().deserialize("order-topic", record))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Unknown Avro schema fingerprint");
+    }
+
+    private static AvroEventDeserializer deserializer() {
+        var deserializer = new AvroEventDeserializer();
+        deserializer.configure(CONFIG, false);
+        return deserializer;
+    }
+
+    private static byte[] encode(Schema schema, GenericRecord record) throws Exception {
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        var out = new ByteArrayOutputStream();
+        new BinaryMessageEncoder<GenericRecord>(model, schema).encode(record, out);
+        return out.toByteArray();
+    }
+
+    private static Stream<Path> schemaFiles(Path directory) {
+        try {
+            return Files.list(directory).filter(file -> file.toString().endsWith(".avsc"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.micro.notification.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyOrderedProcessorTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KeyOrderedProcessor processor = new KeyOrderedProcessor(8, meterRegistry);
+
+    @AfterEach
+    void shutdown() {
+        processor.destroy();
+    }
+
+    @Test
+    void keepsOrderWithinKeyAndRunsKeysInParallel() {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            String key = "ORD-" + (i % 8);
+            records.add(new ConsumerRecord<>("order-topic", 0, i, key, key + ":" + i));
+        }
+        Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        processor.process("order-topic", records, value -> {
+            threads.add(Thread.currentThread().getName());
+            String[] parts = value.split(":");
+            seen.computeIfAbsent(parts[0], key -> Collections.synchronizedList(new ArrayList<>())).add(Integer.parseInt(parts[1]));
+            Thread.sleep(1);
+        });
+
+        assertThat(seen).hasSize(8);
+        seen.values().forEach(offsets -> assertThat(offsets).hasSize(50).isSorted());
+        assertThat(threads).hasSizeGreaterThan(1).allMatch(name -> name.startsWith("notification-worker-"));
+        assertThat(meterRegistry.get("notification.kafka.batch.keys").tag("topic", "order-topic").summary().max())
+                .isEqualTo(8);
+    }
+
+    @Test
+    void reportsLowestFailedIndexAndStopsThatKey() {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("payment-topic", 0, 0, "A", "A0"),
+                new ConsumerRecord<>("payment-topic", 0, 1, "B", "B1"),
+                new ConsumerRecord<>("payment-topic", 0, 2, "B", "B2-fails"),
+                new ConsumerRecord<>("payment-topic", 0, 3, "A", "A3-fails"),
+                new ConsumerRecord<>("payment-topic", 0, 4, "B", "B4"));
+        Set<String> handled = ConcurrentHashMap.newKeySet();
+
+        assertThatThrownBy(() -> processor.process("payment-topic", records, value -> {
+            if (value.endsWith("fails")) {
+                throw new IllegalStateException(value);
+            }
+            handled.add(value);
+        }))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(2))
+                .hasRootCauseMessage("B2-fails");
+        assertThat(handled).containsExactlyInAnyOrder("A0", "B1");
+    }
+
+    @Test
+    void handlesSingleKeyBatchOnListenerThread() {
+        String listener = Thread.currentThread().getName();
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("order-topic", 1, 0, "ORD-1", "first"),
+                new ConsumerRecord<>("order-topic", 1, 1, "ORD-1", "second"));
+        List<String> handled = new ArrayList<>();
+
+        processor.process("order-topic", records, value -> {
+            assertThat(Thread.currentThread().getName()).isEqualTo(listener);
+            handled.add(value);
+        });
+
+        assertThat(handled).containsExactly("first", "second");
+    }
+}
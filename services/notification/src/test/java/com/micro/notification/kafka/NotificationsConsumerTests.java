@@ -0,0 +1,66 @@
+package com.micro.notification.kafka;
+
+import com.micro.notification.email.EmailService;
+import com.micro.notification.kafka.payment.PaymentConfirmation;
+import com.micro.notification.kafka.payment.PaymentMethod;
+import com.micro.notification.notification.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+class NotificationsConsumerTests {
+
+    private final NotificationRepository repository = mock(NotificationRepository.class);
+    private final EmailService emailService = mock(EmailService.class);
+    private final KeyOrderedProcessor processor = new KeyOrderedProcessor(4, new SimpleMeterRegistry());
+    private final NotificationsConsumer consumer = new NotificationsConsumer(repository, emailService, processor);
+
+    @AfterEach
+    void shutdown() {
+        processor.destroy();
+    }
+
+    @Test
+    void sendsEmailsOfOneOrderInEventOrder() throws Exception {
+        consumer.consumePaymentSuccessNotifications(List.of(
+                record(0, "ORD-1", new BigDecimal("10.00")),
+                record(1, "ORD-2", new BigDecimal("20.00")),
+                record(2, "ORD-1", new BigDecimal("30.00"))));
+
+        InOrder order = inOrder(emailService);
+        order.verify(emailService).sendPaymentSuccessEmail(any(), any(), eq(new BigDecimal("10.00")), eq("ORD-1"));
+        order.verify(emailService).sendPaymentSuccessEmail(any(), any(), eq(new BigDecimal("30.00")), eq("ORD-1"));
+    }
+
+    @Test
+    void mailFailureFailsTheRecord() throws Exception {
+        doThrow(new MessagingException("SMTP down"))
+                .when(emailService).sendPaymentSuccessEmail(any(), any(), any(), eq("ORD-2"));
+
+        assertThatThrownBy(() -> consumer.consumePaymentSuccessNotifications(List.of(
+                record(0, "ORD-1", new BigDecimal("10.00")),
+                record(1, "ORD-2", new BigDecimal("20.00")))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1))
+                .hasRootCauseInstanceOf(MessagingException.class);
+    }
+
+    private static ConsumerRecord<String, PaymentConfirmation> record(long offset, String orderReference, BigDecimal amount) {
+        return new ConsumerRecord<>("payment-topic", 0, offset, orderReference, new PaymentConfirmation(
+                orderReference, amount, PaymentMethod.VISA, "Jane", "Doe", "jane.doe@example.com"));
+    }
+}
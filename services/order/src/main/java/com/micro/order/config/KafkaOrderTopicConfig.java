@@ -1,5 +1,6 @@
 package com.micro.order.config;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
@@ -7,10 +8,17 @@ import org.springframework.kafka.config.TopicBuilder;
 @Configuration
 public class KafkaOrderTopicConfig {
 
+    /**
+     * Records are keyed by order reference, so partitions only bound how many notification consumers can share
+     * the topic. Raising the count later adds partitions (KafkaAdmin never removes any) and remaps keys once.
+     */
     @Bean
-    public NewTopic orderTopic() {
+    public NewTopic orderTopic(
+            @Value("${application.kafka.order-topic.partitions:6}") int partitions
+    ) {
         return TopicBuilder
                 .name("order-topic")
+                .partitions(partitions)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.micro.order.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PersistenceSettingsValidator
+ * ----------------------------
+ * Checks the persistence profile (Hikari pool, PostgreSQL driver, Hibernate batching and id allocation) once at startup.
+ *
+ * Why do we need it?
+ * - The profile is shared through the config server (configurations/application.yml) and can be overridden per service.
+ *   A bad override is silent: e.g. batch_size without reWriteBatchedInserts batches round-trips but still executes
+ *   one INSERT per row.
+ * - Failing at startup is cheaper than finding out from latency graphs.
+ *
+ * How does it work?
+ * - Reads the effective settings from the HikariDataSource, the Hibernate batch size and the id optimizer.
+ * - Contradictory settings stop the application with an IllegalStateException; risky but valid ones are logged as warnings.
+ * - Logs the effective profile once, so it is visible in the startup log of every instance.
+ */
+@Slf4j
+@Component
+public class PersistenceSettingsValidator implements InitializingBean {
+
+    static final long MAX_CONNECTION_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+    static final String ID_OPTIMIZER = "pooled-lo";
+
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final String idOptimizer;
+
+    public PersistenceSettingsValidator(
+            DataSource dataSource,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:1}") int batchSize,
+            @Value("${spring.jpa.properties.hibernate.id.optimizer.pooled.preferred:pooled}") String idOptimizer
+    ) {
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+        this.idOptimizer = idOptimizer;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            log.warn("DataSource is {}, not Hikari; persistence profile not checked", dataSource.getClass().getName());
+            return;
+        }
+        List<String> errors = validate(hikari, batchSize, idOptimizer);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid persistence settings: " + String.join("; ", errors));
+        }
+        log.info("Persistence profile: pool={} maximumPoolSize={} minimumIdle={} connectionTimeout={}ms batchSize={} driver={}",
+                hikari.getPoolName(), hikari.getMaximumPoolSize(), hikari.getMinimumIdle(), hikari.getConnectionTimeout(),
+                batchSize, hikari.getDataSourceProperties());
+    }
+
+    /**
+     * @return the violations that must stop the application; warnings are logged directly
+     */
+    static List<String> validate(HikariConfig hikari, int batchSize, String idOptimizer) {
+        List<String> errors = new ArrayList<>();
+        if (!ID_OPTIMIZER.equals(idOptimizer)) {
+            // pooled reads a sequence value as the end of its block, pooled-lo as the start: mixed instances would overlap
+            errors.add("hibernate.id.optimizer.pooled.preferred is " + idOptimizer + ", the id sequences are laid out for "
+                    + ID_OPTIMIZER);
+        }
+        if (hikari.getMaximumPoolSize() < 1) {
+            errors.add("maximum-pool-size must be at least 1");
+        }
+        if (hikari.getMinimumIdle() > hikari.getMaximumPoolSize()) {
+            errors.add("minimum-idle (" + hikari.getMinimumIdle() + ") exceeds maximum-pool-size (" + hikari.getMaximumPoolSize() + ")");
+        }
+        if (batchSize < 1) {
+            errors.add("hibernate.jdbc.batch_size must be at least 1");
+        }
+        if (batchSize > 1 && !"true".equalsIgnoreCase(String.valueOf(hikari.getDataSourceProperties().get("reWriteBatchedInserts")))) {
+            log.warn("hibernate.jdbc.batch_size is {} but reWriteBatchedInserts is off: round-trips are batched, "
+                    + "PostgreSQL still executes one INSERT per row", batchSize);
+        }
+        if (hikari.getConnectionTimeout() > MAX_CONNECTION_TIMEOUT_MS) {
+            log.warn("connection-timeout is {}ms: requests queue that long on an exhausted pool before failing",
+                    hikari.getConnectionTimeout());
+        }
+        if ("0".equals(String.valueOf(hikari.getDataSourceProperties().get("preparedStatementCacheQueries")))) {
+            log.warn("preparedStatementCacheQueries is 0: server-side prepared statements are not reused");
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,68 @@
+package com.micro.order.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.Duration;
+
+/**
+ * R2dbcConfig
+ * -----------
+ * Non-blocking access to the order database, used only by the /api/v2/orders endpoint.
+ *
+ * Why do we need it?
+ * - The reactive order path must not park a thread on JDBC; R2DBC talks to PostgreSQL with non-blocking I/O.
+ * - The JPA/JDBC stack (DataSource, JpaTransactionManager) keeps serving every other endpoint unchanged.
+ *
+ * How does it work?
+ * - Spring Boot's R2DBC auto-configuration is excluded (see OrderApplication): a ConnectionFactory bean would make
+ *   the DataSource auto-configuration back off, and a second TransactionManager bean would make @Transactional ambiguous.
+ * - The pool is therefore built here and only exposed through a DatabaseClient and a TransactionalOperator,
+ *   neither of which is a ConnectionFactory or a TransactionManager bean.
+ * - The pool is closed when the context shuts down.
+ */
+@Configuration
+public class R2dbcConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(
+            @Value("${application.reactive.r2dbc.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${application.reactive.r2dbc.pool-size:20}") int poolSize
+    ) {
+        var options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("order-r2dbc")
+                .maxSize(poolSize)
+                .maxAcquireTime(Duration.ofSeconds(30))
+                .build());
+        return DatabaseClient.create(this.connectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(DatabaseClient reactiveDatabaseClient) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(reactiveDatabaseClient.getConnectionFactory()));
+    }
+
+    @Override
+    public void destroy() {
+        if (this.connectionPool != null) {
+            this.connectionPool.dispose();
+        }
+    }
+}
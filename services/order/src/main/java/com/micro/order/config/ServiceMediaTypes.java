@@ -0,0 +1,16 @@
+package com.micro.order.config;
+
+/**
+ * Content types used for service-to-service calls.
+ * <p>
+ * Calls to the product and customer services exchange Jackson Smile (binary JSON) instead of plain JSON:
+ * same data model and annotations, smaller payloads and cheaper (de)serialization. Both services register
+ * the Smile converter automatically because {@code jackson-dataformat-smile} is on their classpath.
+ */
+public final class ServiceMediaTypes {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private ServiceMediaTypes() {
+    }
+}
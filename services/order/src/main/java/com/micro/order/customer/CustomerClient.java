@@ -1,9 +1,14 @@
 package com.micro.order.customer;
 
 import com.micro.order.config.FeignAuthConfig;
+import com.micro.order.config.ServiceMediaTypes;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -39,9 +44,13 @@ public interface CustomerClient {
      * Process:
      * - The order service calls this method as part of processing a new order.
      * - Feign makes an HTTP GET request to customer-service/{customer-id}.
-     * - Response is parsed into a CustomerResponse object.
+     * - Response is parsed into a CustomerResponse object (requested as Smile, see {@link ServiceMediaTypes}).
      */
-    @GetMapping("/{customer-id}")
+    @GetMapping(value = "/{customer-id}", produces = ServiceMediaTypes.APPLICATION_SMILE_VALUE)
      Optional<CustomerResponse> findCustomerById(@PathVariable("customer-id") String customerId);
 
+    // Loads many customers with one call; unknown ids are simply missing from the result
+    @PostMapping(value = "/by-ids", produces = ServiceMediaTypes.APPLICATION_SMILE_VALUE)
+    List<CustomerResponse> findCustomersByIds(@RequestBody CustomerIdsRequest request);
+
 }
@@ -0,0 +1,9 @@
+package com.micro.order.customer;
+
+import java.util.List;
+
+public record CustomerIdsRequest(
+        List<String> ids
+) {
+
+}
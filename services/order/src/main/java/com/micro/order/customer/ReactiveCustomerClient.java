@@ -0,0 +1,61 @@
+package com.micro.order.customer;
+
+import com.micro.order.config.ServiceMediaTypes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+/**
+ * ReactiveCustomerClient
+ * ----------------------
+ * Non-blocking counterpart of {@link CustomerClient}, used by the reactive order path (/api/v2/orders).
+ *
+ * Why do we need it?
+ * - The Feign client blocks the calling thread until the customer service answers.
+ * - WebClient returns a Mono instead, so no thread waits on the network.
+ *
+ * How does it work?
+ * - Same URL and Smile content negotiation as the Feign client.
+ * - The caller passes the Authorization header explicitly: there is no servlet request to read it from
+ *   once the pipeline continues on a Netty thread.
+ * - A 404 from the customer service completes empty, like the Feign client's {@code Optional.empty()}.
+ */
+@Service
+public class ReactiveCustomerClient {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(ServiceMediaTypes.APPLICATION_SMILE_VALUE);
+
+    private final WebClient webClient;
+
+    public ReactiveCustomerClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${application.config.customer-url}") String customerUrl
+    ) {
+        this.webClient = webClientBuilder.clone().baseUrl(customerUrl).build();
+    }
+
+    public Mono<CustomerResponse> findCustomerById(String customerId, String authorization) {
+        return webClient.get()
+                .uri("/{customer-id}", customerId)
+                .accept(APPLICATION_SMILE)
+                .headers(headers -> {
+                    if (authorization != null && !authorization.isBlank()) {
+                        headers.set(AUTHORIZATION, authorization);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return response.releaseBody().then(Mono.empty());
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    return response.bodyToMono(CustomerResponse.class);
+                });
+    }
+}
@@ -0,0 +1,111 @@
+package com.micro.order.kafka;
+
+import com.micro.order.product.PurchaseResponse;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OrderConfirmationAvroSerializer
+ * -------------------------------
+ * Kafka value serializer writing {@link OrderConfirmation} as Avro (single-object encoding).
+ *
+ * Why do we need it?
+ * - JSON repeats every field name in every record and needs a type-mapping header; Avro writes only the values,
+ *   so the same event is several times smaller and cheaper to encode.
+ *
+ * How does it work?
+ * - The schema is {@code avro/order-confirmation-v1.avsc}; the notification service holds a copy of every version.
+ * - Single-object encoding prefixes the body with the schema's 64-bit fingerprint, so consumers know the writer
+ *   schema without a schema registry and resolve it against their own version (Avro schema resolution).
+ * - Amounts are written as decimal(38, 2), like the database columns; a value with more decimals fails instead
+ *   of being rounded.
+ * - To go back to JSON, configure spring-kafka's JsonSerializer again: the consumer reads both.
+ */
+public class OrderConfirmationAvroSerializer implements Serializer<OrderConfirmation> {
+
+    static final Schema SCHEMA = loadSchema("avro/order-confirmation-v1.avsc");
+
+    private static final Schema CUSTOMER = SCHEMA.getField("customer").schema();
+    private static final Schema PAYMENT_METHOD = SCHEMA.getField("paymentMethod").schema();
+    private static final Schema PRODUCT = SCHEMA.getField("products").schema().getElementType();
+
+    private final BinaryMessageEncoder<GenericRecord> encoder;
+
+    public OrderConfirmationAvroSerializer() {
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        this.encoder = new BinaryMessageEncoder<>(model, SCHEMA);
+    }
+
+    @Override
+    public byte[] serialize(String topic, OrderConfirmation data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            encoder.encode(toRecord(data), out);
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Cannot serialize order confirmation " + data.orderReference() + " for " + topic, e);
+        }
+    }
+
+    private static GenericRecord toRecord(OrderConfirmation data) {
+        GenericRecord customer = new GenericData.Record(CUSTOMER);
+        if (data.customer() != null) {
+            customer.put("id", data.customer().id());
+            customer.put("firstname", data.customer().firstname());
+            customer.put("lastname", data.customer().lastname());
+            customer.put("email", data.customer().email());
+        }
+        List<GenericRecord> products = new ArrayList<>();
+        if (data.products() != null) {
+            for (PurchaseResponse product : data.products()) {
+                GenericRecord item = new GenericData.Record(PRODUCT);
+                item.put("productId", product.productId());
+                item.put("name", product.name());
+                item.put("description", product.description());
+                item.put("price", money(product.price()));
+                item.put("quantity", product.quantity());
+                products.add(item);
+            }
+        }
+        GenericRecord record = new GenericData.Record(SCHEMA);
+        record.put("orderReference", data.orderReference());
+        record.put("totalAmount", money(data.totalAmount()));
+        record.put("paymentMethod", new GenericData.EnumSymbol(PAYMENT_METHOD, data.paymentMethod().name()));
+        record.put("customer", customer);
+        record.put("products", products);
+        return record;
+    }
+
+    private static BigDecimal money(BigDecimal amount) {
+        return amount == null ? null : amount.setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private static Schema loadSchema(String resource) {
+        try (InputStream in = OrderConfirmationAvroSerializer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing Avro schema " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -6,6 +6,9 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+import static org.springframework.kafka.support.KafkaHeaders.KEY;
 import static org.springframework.kafka.support.KafkaHeaders.TOPIC;
 
 /**
@@ -23,13 +26,15 @@ import static org.springframework.kafka.support.KafkaHeaders.TOPIC;
  * How does it work?
  * - Uses Spring Kafka's KafkaTemplate to send messages to a Kafka topic.
  * - Uses Spring Messaging's MessageBuilder to create messages with headers (including the Kafka topic).
+ * - Keys every record by order reference: all events of an order land on the same partition, in order,
+ *   while different orders spread over all partitions (and notification consumers).
  * - Annotated as a Spring Service so it can be auto-wired and reused.
  * </p>
  *
  * <p>
  * Main method: sendOrderConfirmation(OrderConfirmation)
  * - Builds a message containing order confirmation details.
- * - Sets the Kafka topic header.
+ * - Sets the Kafka topic header and the order reference as key.
  * - Sends the message via KafkaTemplate.
  * - Logs the sending action for monitoring and debugging.
  * </p>
@@ -65,10 +70,31 @@ public class OrderProducer {
         Message<OrderConfirmation> message = MessageBuilder
                 .withPayload(orderConfirmation)           // Attach the event payload
                 .setHeader(TOPIC, "order-topic")          // Specify Kafka topic using header
+                .setHeader(KEY, orderConfirmation.orderReference()) // Partition by order reference
                 .build();                                 // Build message
 
         // 2. Send the constructed message to Kafka
-        // KafkaTemplate will serialize the OrderConfirmation object (e.g., to JSON)
+        // KafkaTemplate will serialize the OrderConfirmation object (Avro, see OrderConfirmationAvroSerializer)
         kafkaTemplate.send(message);
     }
+
+    /**
+     * Publishes the confirmations of a batch of orders.
+     * <p>
+     * All records are handed to the producer first and then flushed once, so they are sent in as few
+     * produce requests as the batching settings allow and are acknowledged before the call returns.
+     *
+     * @param orderConfirmations the confirmations to send
+     */
+    public void sendOrderConfirmations(List<OrderConfirmation> orderConfirmations) {
+        log.info("Sending {} order confirmation events to Kafka", orderConfirmations.size());
+        for (OrderConfirmation orderConfirmation : orderConfirmations) {
+            kafkaTemplate.send(MessageBuilder
+                    .withPayload(orderConfirmation)
+                    .setHeader(TOPIC, "order-topic")
+                    .setHeader(KEY, orderConfirmation.orderReference())
+                    .build());
+        }
+        kafkaTemplate.flush();
+    }
 }
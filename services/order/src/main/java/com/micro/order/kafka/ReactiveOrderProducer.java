@@ -0,0 +1,41 @@
+package com.micro.order.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.kafka.support.KafkaHeaders.KEY;
+import static org.springframework.kafka.support.KafkaHeaders.TOPIC;
+
+/**
+ * ReactiveOrderProducer
+ * ---------------------
+ * Publishes order confirmations for the reactive order path (/api/v2/orders).
+ *
+ * How does it work?
+ * - Uses the same KafkaTemplate, topic, key (order reference) and value serializer as {@link OrderProducer}.
+ * - The producer is already asynchronous: the returned Mono completes when the broker acknowledges the record,
+ *   so a failed send fails the order (and rolls back its transaction) without blocking a thread.
+ * - Only the first send of a topic may block while the producer fetches metadata (bounded by max.block.ms).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveOrderProducer {
+
+    private final KafkaTemplate<String, OrderConfirmation> kafkaTemplate;
+
+    public Mono<Void> sendOrderConfirmation(OrderConfirmation orderConfirmation) {
+        return Mono.fromFuture(() -> kafkaTemplate.send(MessageBuilder
+                        .withPayload(orderConfirmation)
+                        .setHeader(TOPIC, "order-topic")
+                        .setHeader(KEY, orderConfirmation.orderReference())
+                        .build()))
+                .doOnNext(result -> log.debug("Order confirmation {} written to {}",
+                        orderConfirmation.orderReference(), result.getRecordMetadata()))
+                .then();
+    }
+}
@@ -0,0 +1,15 @@
+package com.micro.order.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchOrderRequest(
+        @NotEmpty(message = "At least one order is required")
+        @Size(max = 500, message = "At most 500 orders can be submitted per batch")
+        List<@Valid OrderRequest> orders
+) {
+
+}
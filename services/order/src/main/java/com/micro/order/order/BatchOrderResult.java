@@ -0,0 +1,29 @@
+package com.micro.order.order;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * Outcome of one order of a batch submission.
+ *
+ * @param index     position of the order in the request
+ * @param reference the order reference
+ * @param orderId   id of the created order ({@code CREATED} only)
+ * @param status    {@code CREATED}, {@code REJECTED} (this order is invalid) or {@code FAILED} (the batch could not be processed)
+ * @param error     reason for {@code REJECTED} and {@code FAILED}
+ */
+@JsonInclude(Include.NON_NULL)
+public record BatchOrderResult(
+        int index,
+        String reference,
+        Integer orderId,
+        Status status,
+        String error
+) {
+
+    public enum Status {
+        CREATED,
+        REJECTED,
+        FAILED
+    }
+}
@@ -0,0 +1,218 @@
+package com.micro.order.order;
+
+import com.micro.order.customer.CustomerClient;
+import com.micro.order.customer.CustomerIdsRequest;
+import com.micro.order.customer.CustomerResponse;
+import com.micro.order.excpetis.BusinessException;
+import com.micro.order.kafka.OrderConfirmation;
+import com.micro.order.kafka.OrderProducer;
+import com.micro.order.orderLine.OrderLineRequest;
+import com.micro.order.orderLine.OrderLineService;
+import com.micro.order.payment.PaymentClient;
+import com.micro.order.payment.PaymentRequest;
+import com.micro.order.product.ProductClient;
+import com.micro.order.product.PurchaseRequest;
+import com.micro.order.product.PurchaseResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * BatchOrderService
+ * -----------------
+ * Creates many orders in one request ({@code POST /api/v1/orders/batch}).
+ *
+ * <p>
+ * Why do we need it?
+ * - B2B customers submit hundreds of orders at once. Looping over {@code POST /api/v1/orders} costs every order a customer
+ *   lookup, a product purchase, a payment call and a Kafka publish, i.e. four network round-trips per order.
+ * </p>
+ *
+ * <p>
+ * How does it work?
+ * - All distinct customers are loaded with one call; orders of unknown customers, without a reference or with a reference
+ *   that is already taken are {@code REJECTED} individually.
+ * - Stock for all remaining orders is reserved with one purchase call, with quantities summed per product.
+ *   If it fails (unknown product, insufficient stock) none of the orders is created and all of them are {@code FAILED}.
+ * - Orders and lines are priced like single orders (see {@link OrderTotals}) and inserted with JDBC batching.
+ * - One payment call and one flushed Kafka batch cover all created orders.
+ * - If anything after the purchase fails (inserts, payment call, Kafka), the transaction rolls the orders back and the
+ *   purchased stock is given back with one release call. A failed release is logged with the quantities to restock.
+ *   Payments already requested are not undone: the payment call comes last but one, after the inserts were flushed.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchOrderService {
+
+    private final OrderRepository repository;
+    private final OrderMapper mapper;
+    private final CustomerClient customerClient;
+    private final PaymentClient paymentClient;
+    private final ProductClient productClient;
+    private final OrderLineService orderLineService;
+    private final OrderProducer orderProducer;
+
+    @Transactional
+    public List<BatchOrderResult> createOrders(List<OrderRequest> requests) {
+        var results = new BatchOrderResult[requests.size()];
+
+        // 1. Validate all distinct customers and references at once
+        var customerIds = requests.stream().map(OrderRequest::customerId).distinct().toList();
+        Map<String, CustomerResponse> customers = customerClient.findCustomersByIds(new CustomerIdsRequest(customerIds))
+                .stream()
+                .collect(Collectors.toMap(CustomerResponse::id, Function.identity(), (first, second) -> first));
+        var takenReferences = new HashSet<>(repository.findExistingReferences(
+                requests.stream().map(OrderRequest::reference).filter(Objects::nonNull).toList()));
+
+        var accepted = new ArrayList<Integer>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            String problem = request.reference() == null || request.reference().isBlank()
+                    ? "Order reference is required"
+                    : !takenReferences.add(request.reference())
+                    ? "An order with this reference already exists"
+                    : !customers.containsKey(request.customerId())
+                    ? "No customer exists with the provided ID"
+                    : null;
+            if (problem != null) {
+                results[i] = new BatchOrderResult(i, request.reference(), null, BatchOrderResult.Status.REJECTED, problem);
+            } else {
+                accepted.add(i);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        // 2. Reserve stock for every accepted order with one purchase call
+        var quantitiesByProduct = new TreeMap<Integer, Double>();
+        for (int i : accepted) {
+            for (PurchaseRequest product : requests.get(i).products()) {
+                quantitiesByProduct.merge(product.productId(), product.quantity(), Double::sum);
+            }
+        }
+        var purchaseRequests = quantitiesByProduct.entrySet().stream()
+                .map(entry -> new PurchaseRequest(entry.getKey(), entry.getValue()))
+                .toList();
+        Map<Integer, PurchaseResponse> purchased;
+        try {
+            purchased = productClient.purchaseProducts(purchaseRequests)
+                    .stream()
+                    .collect(Collectors.toMap(PurchaseResponse::productId, Function.identity()));
+        } catch (BusinessException | RestClientException e) {
+            String reason = e instanceof BusinessException business ? business.getMsg() : e.getMessage();
+            log.warn("Product purchase for a batch of {} orders failed: {}", accepted.size(), reason);
+            for (int i : accepted) {
+                results[i] = new BatchOrderResult(i, requests.get(i).reference(), null, BatchOrderResult.Status.FAILED,
+                        "Products could not be purchased: " + reason);
+            }
+            return Arrays.asList(results);
+        }
+
+        try {
+            persistAndConfirm(requests, accepted, customers, purchased, results);
+        } catch (RuntimeException e) {
+            // The transaction rolls back the orders; the stock taken above has to be given back explicitly
+            releaseStock(purchaseRequests, e);
+            throw e;
+        }
+        return Arrays.asList(results);
+    }
+
+    private void persistAndConfirm(List<OrderRequest> requests, List<Integer> accepted, Map<String, CustomerResponse> customers,
+                                   Map<Integer, PurchaseResponse> purchased, BatchOrderResult[] results) {
+        // 3. Price and persist orders, then their lines, with batched inserts
+        var orders = new ArrayList<Order>(accepted.size());
+        var unitPrices = new ArrayList<long[]>(accepted.size());
+        for (int i : accepted) {
+            var request = requests.get(i);
+            int lineCount = request.products().size();
+            long[] unitPriceCents = new long[lineCount];
+            double[] quantities = new double[lineCount];
+            for (int line = 0; line < lineCount; line++) {
+                var product = request.products().get(line);
+                var purchase = purchased.get(product.productId());
+                if (purchase == null) {
+                    throw new BusinessException("Cannot create orders:: No price returned for product " + product.productId());
+                }
+                unitPriceCents[line] = OrderTotals.toCents(purchase.price());
+                quantities[line] = product.quantity();
+            }
+            var order = mapper.toOrder(request);
+            order.setTotalAmount(OrderTotals.fromCents(OrderTotals.totalCents(unitPriceCents, quantities)));
+            orders.add(order);
+            unitPrices.add(unitPriceCents);
+        }
+        var savedOrders = repository.saveAll(orders);
+
+        var lines = new ArrayList<OrderLineRequest>();
+        for (int o = 0; o < savedOrders.size(); o++) {
+            var request = requests.get(accepted.get(o));
+            for (int line = 0; line < request.products().size(); line++) {
+                var product = request.products().get(line);
+                lines.add(new OrderLineRequest(null, savedOrders.get(o).getId(), product.productId(),
+                        product.quantity(), OrderTotals.fromCents(unitPrices.get(o)[line])));
+            }
+        }
+        orderLineService.saveOrderLines(lines);
+        repository.flush(); // insert failures surface here, before anyone is charged
+
+        // 4. One payment call for all orders
+        var payments = new ArrayList<PaymentRequest>(savedOrders.size());
+        var confirmations = new ArrayList<OrderConfirmation>(savedOrders.size());
+        for (int o = 0; o < savedOrders.size(); o++) {
+            var order = savedOrders.get(o);
+            var request = requests.get(accepted.get(o));
+            var customer = customers.get(request.customerId());
+            payments.add(new PaymentRequest(order.getTotalAmount(), request.paymentMethod(), order.getId(), order.getReference(), customer));
+            confirmations.add(new OrderConfirmation(
+                    order.getReference(),
+                    order.getTotalAmount(),
+                    request.paymentMethod(),
+                    customer,
+                    request.products().stream()
+                            .map(product -> {
+                                var purchase = purchased.get(product.productId());
+                                return new PurchaseResponse(purchase.productId(), purchase.name(), purchase.description(),
+                                        purchase.price(), product.quantity());
+                            })
+                            .toList()
+            ));
+        }
+        paymentClient.requestOrderPayments(payments);
+
+        // 5. Publish all confirmations as one Kafka batch
+        orderProducer.sendOrderConfirmations(confirmations);
+
+        for (int o = 0; o < savedOrders.size(); o++) {
+            int i = accepted.get(o);
+            results[i] = new BatchOrderResult(i, savedOrders.get(o).getReference(), savedOrders.get(o).getId(),
+                    BatchOrderResult.Status.CREATED, null);
+        }
+    }
+
+    private void releaseStock(List<PurchaseRequest> purchaseRequests, RuntimeException cause) {
+        try {
+            productClient.releaseProducts(purchaseRequests);
+            log.warn("Batch order creation failed after the product purchase, released the stock: {}", cause.getMessage());
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error("Batch order creation failed and the purchased stock could not be released, restock by hand: {}",
+                    purchaseRequests, e);
+        }
+    }
+}
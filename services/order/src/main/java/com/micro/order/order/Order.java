@@ -6,8 +6,11 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -30,11 +33,17 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity // JPA: designates this class as a table-mapped entity
 @EntityListeners(AuditingEntityListener.class) // JPA: enables auditing (timestamps)
 @NoArgsConstructor // Lombok: generates a no-arg constructor
-@Table(name = "customer_order") // JPA: maps this entity to "customer_order" table
+@Table(name = "customer_order", indexes = { // JPA: maps this entity to "customer_order" table
+        @Index(name = "idx_customer_order_customer_id_created_date", columnList = "customer_id, created_date"), // Order history per customer
+        @Index(name = "idx_customer_order_created_date", columnList = "created_date") // Date-range reporting
+})
 public class Order {
 
+    public static final int ID_ALLOCATION_SIZE = 100; // Ids reserved per customer_order_seq call (its INCREMENT BY, see V1__init_order_schema.sql)
+
     @Id // JPA: primary key indicator
-    @GeneratedValue // JPA: auto-generates unique id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_order_seq") // JPA: ids from a sequence
+    @SequenceGenerator(name = "customer_order_seq", sequenceName = "customer_order_seq", allocationSize = ID_ALLOCATION_SIZE) // One sequence call per 100 orders (pooled-lo)
     private Integer id; // Unique ID for the order
 
     @Column(unique = true, nullable = false) // JPA: unique and required column
@@ -4,14 +4,21 @@ package com.micro.order.order;
 import java.util.List;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/orders")
@@ -19,6 +26,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
     private final OrderService service;
+    private final OrderExportService exportService;
+    private final BatchOrderService batchOrderService;
 
     @PostMapping
     public ResponseEntity<Integer> createOrder(
@@ -27,6 +36,17 @@ public class OrderController {
         return ResponseEntity.ok(this.service.createOrder(request));
     }
 
+    /**
+     * Creates many orders with one customer lookup, one product purchase, one payment call and one Kafka batch.
+     * Returns one result per submitted order, in request order.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchOrderResult>> createOrders(
+            @RequestBody @Valid BatchOrderRequest request
+    ) {
+        return ResponseEntity.ok(this.batchOrderService.createOrders(request.orders()));
+    }
+
     @GetMapping
     public ResponseEntity<List<OrderResponse>> findAll() {
         return ResponseEntity.ok(this.service.findAllOrders());
@@ -38,4 +58,35 @@ public class OrderController {
     ) {
         return ResponseEntity.ok(this.service.findById(orderId));
     }
-}
\ No newline at end of file
+
+    /**
+     * Order history of one customer, newest first, with the lines of every order (no per-order follow-up calls).
+     * Optional {@code from}/{@code to} (ISO date-time) restrict the creation date; {@code to} is exclusive.
+     */
+    @GetMapping("/customer/{customer-id}")
+    public ResponseEntity<OrderHistoryPage> findOrderHistory(
+            @PathVariable("customer-id") String customerId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "page", defaultValue = "0") @Min(0) int page,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(this.service.findOrderHistory(customerId, from, to, page, size));
+    }
+
+    /**
+     * Streams every order (with its lines) as NDJSON or CSV, in constant memory.
+     * Optional {@code from}/{@code to} (ISO date-time) restrict the creation date; {@code to} is exclusive.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "NDJSON") OrderExportFormat format,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=orders." + format.name().toLowerCase())
+                .body(out -> this.exportService.export(out, format, from, to));
+    }
+}
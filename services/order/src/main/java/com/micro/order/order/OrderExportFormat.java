@@ -0,0 +1,25 @@
+package com.micro.order.order;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats of the order export.
+ */
+public enum OrderExportFormat {
+
+    /** One JSON order (with its lines) per line. */
+    NDJSON(MediaType.APPLICATION_NDJSON),
+
+    /** One row per order line; orders without lines get a single row with empty line columns. */
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    OrderExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
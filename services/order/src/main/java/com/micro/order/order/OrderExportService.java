@@ -0,0 +1,283 @@
+package com.micro.order.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.micro.order.orderLine.OrderLineResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * OrderExportService
+ * ------------------
+ * Streams all orders (optionally within a creation-date range) with their lines as NDJSON or CSV.
+ *
+ * <p>
+ * Why do we need it?
+ * - The nightly finance pull used {@code GET /api/v1/orders}, which loads the whole customer_order table
+ *   into the heap before the first byte is sent.
+ * </p>
+ *
+ * <p>
+ * How does it work?
+ * - Orders are read in keyset pages ({@code id > lastId order by id limit pageSize}), each page joined with its
+ *   lines in a single SQL statement, so no page is more expensive than the first.
+ * - Every page runs in its own short read-only transaction with a JDBC fetch size, which makes the PostgreSQL driver
+ *   stream rows over a server-side cursor instead of buffering the whole result.
+ * - Rows are written to the response as they arrive; only the order currently being assembled is held in memory.
+ *   The writer is flushed after every page.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportService {
+
+    // %s: the created_date predicates of the requested bounds, if any
+    private static final String PAGE_SQL = """
+            select o.id, o.reference, o.total_amount, o.payment_method, o.customer_id, o.created_date,
+                   l.id as line_id, l.product_id, l.quantity, l.unit_price
+            from (select * from customer_order
+                  where id > ?%s
+                  order by id
+                  limit ?) o
+            left join customer_line l on l.order_id = o.id
+            order by o.id, l.id
+            """;
+
+    private static final String CSV_HEADER =
+            "order_id,reference,total_amount,payment_method,customer_id,created_date,line_id,product_id,quantity,unit_price\n";
+
+    @Value("${application.orders.export.page-size:5000}")
+    private int pageSize; // Orders per keyset page (and per transaction)
+
+    @Value("${application.orders.export.fetch-size:1000}")
+    private int fetchSize; // Rows the JDBC driver fetches per round-trip
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes every order created in {@code [from, to)} to {@code out}.
+     *
+     * @param out    the response stream
+     * @param format NDJSON or CSV
+     * @param from   inclusive lower bound of the creation date, or {@code null} for no lower bound
+     * @param to     exclusive upper bound of the creation date, or {@code null} for no upper bound
+     */
+    public void export(OutputStream out, OrderExportFormat format, LocalDateTime from, LocalDateTime to) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+        var sink = format == OrderExportFormat.CSV ? new CsvSink(writer) : new NdjsonSink(writer, objectMapper.writerFor(OrderHistoryResponse.class));
+        var lower = from != null ? Timestamp.valueOf(from) : null;
+        var upper = to != null ? Timestamp.valueOf(to) : null;
+        var sql = pageSql(lower, upper);
+
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        sink.begin();
+        long exported = 0;
+        int lastId = 0;
+        try {
+            while (true) {
+                final int after = lastId;
+                var page = transaction.execute(status -> readPage(sql, after, lower, upper, sink));
+                writer.flush();
+                exported += page.orders();
+                if (page.orders() < pageSize) {
+                    break;
+                }
+                lastId = page.lastId();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("Exported {} orders as {}", exported, format);
+    }
+
+    /** Only the given bounds become predicates, so orders dated in the future are not cut off by a made-up limit. */
+    private static String pageSql(Timestamp from, Timestamp to) {
+        return PAGE_SQL.formatted((from != null ? " and created_date >= ?" : "") + (to != null ? " and created_date < ?" : ""));
+    }
+
+    private Page readPage(String sql, int afterId, Timestamp from, Timestamp to, Sink sink) {
+        var assembler = new OrderAssembler(sink);
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            int index = 1;
+            statement.setInt(index++, afterId);
+            if (from != null) {
+                statement.setTimestamp(index++, from);
+            }
+            if (to != null) {
+                statement.setTimestamp(index++, to);
+            }
+            statement.setInt(index, pageSize);
+            return statement;
+        }, assembler);
+        assembler.finish();
+        return new Page(assembler.orders, assembler.currentId);
+    }
+
+    private record Page(int orders, int lastId) {
+    }
+
+    /**
+     * Groups consecutive rows of the same order (rows are ordered by order id) and hands complete orders to the sink.
+     */
+    private static final class OrderAssembler implements RowCallbackHandler {
+
+        private final Sink sink;
+        private int orders;
+        private int currentId;
+        private OrderHistoryResponse current;
+        private List<OrderLineResponse> lines;
+
+        OrderAssembler(Sink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            int id = rs.getInt("id");
+            if (current == null || id != currentId) {
+                finish();
+                currentId = id;
+                lines = new ArrayList<>();
+                current = new OrderHistoryResponse(
+                        id,
+                        rs.getString("reference"),
+                        rs.getBigDecimal("total_amount"),
+                        paymentMethod(rs.getString("payment_method")),
+                        rs.getString("customer_id"),
+                        rs.getObject("created_date", LocalDateTime.class),
+                        lines
+                );
+            }
+            Integer lineId = rs.getObject("line_id", Integer.class);
+            if (lineId != null) {
+                lines.add(new OrderLineResponse(lineId, rs.getObject("product_id", Integer.class),
+                        rs.getDouble("quantity"), rs.getBigDecimal("unit_price")));
+            }
+        }
+
+        void finish() {
+            if (current != null) {
+                write(current);
+                orders++;
+                current = null;
+            }
+        }
+
+        private void write(OrderHistoryResponse order) {
+            try {
+                sink.write(order);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static PaymentMethod paymentMethod(String value) {
+            return value != null ? PaymentMethod.valueOf(value) : null;
+        }
+    }
+
+    private interface Sink {
+
+        void begin() throws IOException;
+
+        void write(OrderHistoryResponse order) throws IOException;
+    }
+
+    private record NdjsonSink(Writer writer, ObjectWriter json) implements Sink {
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void write(OrderHistoryResponse order) throws IOException {
+            writer.write(json.writeValueAsString(order));
+            writer.write('\n');
+        }
+    }
+
+    private record CsvSink(Writer writer) implements Sink {
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(CSV_HEADER);
+        }
+
+        @Override
+        public void write(OrderHistoryResponse order) throws IOException {
+            if (order.lines().isEmpty()) {
+                writeRow(order, null);
+                return;
+            }
+            for (OrderLineResponse line : order.lines()) {
+                writeRow(order, line);
+            }
+        }
+
+        private void writeRow(OrderHistoryResponse order, OrderLineResponse line) throws IOException {
+            writer.write(String.valueOf(order.id()));
+            writer.write(',');
+            writer.write(escape(order.reference()));
+            writer.write(',');
+            writer.write(order.amount() != null ? order.amount().toPlainString() : "");
+            writer.write(',');
+            writer.write(order.paymentMethod() != null ? order.paymentMethod().name() : "");
+            writer.write(',');
+            writer.write(escape(order.customerId()));
+            writer.write(',');
+            writer.write(order.createdDate() != null ? order.createdDate().toString() : "");
+            writer.write(',');
+            if (line != null) {
+                writer.write(String.valueOf(line.id()));
+                writer.write(',');
+                writer.write(line.productId() != null ? String.valueOf(line.productId()) : "");
+                writer.write(',');
+                writer.write(String.valueOf(line.quantity()));
+                writer.write(',');
+                writer.write(line.unitPrice() != null ? line.unitPrice().toPlainString() : "");
+            } else {
+                writer.write(",,,");
+            }
+            writer.write('\n');
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.micro.order.order;
+
+import java.util.List;
+
+/**
+ * One page of a customer's order history, newest first.
+ * No total count is computed; {@code hasNext} tells whether another page exists.
+ */
+public record OrderHistoryPage(
+        List<OrderHistoryResponse> content,
+        int page,
+        int size,
+        boolean hasNext
+) {
+
+}
@@ -0,0 +1,25 @@
+package com.micro.order.order;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.micro.order.orderLine.OrderLineResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order together with its lines, as shown on a customer's order history.
+ */
+@JsonInclude(Include.NON_EMPTY)
+public record OrderHistoryResponse(
+        Integer id,
+        String reference,
+        BigDecimal amount,
+        PaymentMethod paymentMethod,
+        String customerId,
+        LocalDateTime createdDate,
+        List<OrderLineResponse> lines
+) {
+
+}
@@ -2,8 +2,11 @@ package com.micro.order.order;
 
 
 
+import com.micro.order.orderLine.OrderLineResponse;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class OrderMapper {
 
@@ -29,4 +32,21 @@ public class OrderMapper {
                 order.getCustomerId()
         );
     }
-}
\ No newline at end of file
+
+    public OrderHistoryResponse toOrderHistoryResponse(Order order) {
+        List<OrderLineResponse> lines = order.getOrderLines() == null
+                ? List.of()
+                : order.getOrderLines().stream()
+                        .map(line -> new OrderLineResponse(line.getId(), line.getProductId(), line.getQuantity(), line.getUnitPrice()))
+                        .toList();
+        return new OrderHistoryResponse(
+                order.getId(),
+                order.getReference(),
+                order.getTotalAmount(),
+                order.getPaymentMethod(),
+                order.getCustomerId(),
+                order.getCreatedDate(),
+                lines
+        );
+    }
+}
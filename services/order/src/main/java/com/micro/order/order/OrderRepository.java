@@ -1,6 +1,69 @@
 package com.micro.order.order;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
+
+    /**
+     * Page of order ids only: paging a fetch join would make Hibernate paginate in memory.
+     * Only the given bounds become predicates, so orders dated in the future are not cut off by a made-up limit.
+     */
+    default Slice<Integer> findIdsByCustomer(String customerId, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (from != null && to != null) {
+            return findIdsByCustomerCreatedBetween(customerId, from, to, pageable);
+        }
+        if (from != null) {
+            return findIdsByCustomerCreatedFrom(customerId, from, pageable);
+        }
+        if (to != null) {
+            return findIdsByCustomerCreatedBefore(customerId, to, pageable);
+        }
+        return findIdsByCustomer(customerId, pageable);
+    }
+
+    @Query("select o.id from Order o where o.customerId = :customerId")
+    Slice<Integer> findIdsByCustomer(@Param("customerId") String customerId, Pageable pageable);
+
+    @Query("select o.id from Order o where o.customerId = :customerId and o.createdDate >= :from")
+    Slice<Integer> findIdsByCustomerCreatedFrom(
+            @Param("customerId") String customerId,
+            @Param("from") LocalDateTime from,
+            Pageable pageable
+    );
+
+    @Query("select o.id from Order o where o.customerId = :customerId and o.createdDate < :to")
+    Slice<Integer> findIdsByCustomerCreatedBefore(
+            @Param("customerId") String customerId,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Query("""
+            select o.id from Order o
+            where o.customerId = :customerId
+              and o.createdDate >= :from and o.createdDate < :to
+            """)
+    Slice<Integer> findIdsByCustomerCreatedBetween(
+            @Param("customerId") String customerId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    // Orders and their lines in one round-trip
+    @Query("select distinct o from Order o left join fetch o.orderLines where o.id in :ids")
+    List<Order> findAllWithLinesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // References already taken, to reject duplicates of a batch before inserting
+    @Query("select o.reference from Order o where o.reference in :references")
+    Set<String> findExistingReferences(@Param("references") Collection<String> references);
 }
@@ -15,6 +15,7 @@ import java.util.List;
 public record OrderRequest(
         Integer id,
         String reference,
+        // Optional and ignored: the total is computed from the product service's prices
         @Positive(message = "Order amount should be positive")
         BigDecimal amount,
         @NotNull(message = "Payment method should be precised")
@@ -11,14 +11,20 @@ import com.micro.order.payment.PaymentClient;
 import com.micro.order.payment.PaymentRequest;
 import com.micro.order.product.ProductClient;
 import com.micro.order.product.PurchaseRequest;
+import com.micro.order.product.PurchaseResponse;
 import jakarta.validation.Valid;
 import java.util.List;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,10 +48,12 @@ public class OrderService {
      *         Throws BusinessException if not found (business rule violation).</li>
      *     <li><b>Product Purchase:</b> Requests the ProductClient to attempt purchasing the requested products.
      *         If products are unavailable, the operation fails here.</li>
+     *     <li><b>Total Computation:</b> Prices the order from the purchase response (the product service is the price authority);
+     *         any {@code amount} sent by the client is ignored. See {@link OrderTotals}.</li>
      *     <li><b>Order Persistence:</b> Converts the incoming OrderRequest to an Order entity using the OrderMapper,
-     *         then saves it to the database and gets the persisted Order object.</li>
+     *         sets the computed total, then saves it to the database and gets the persisted Order object.</li>
      *     <li><b>Order Lines Creation:</b> For each purchased product, creates and saves an OrderLine
-     *         representing the ordered item and its quantity through the OrderLineService.</li>
+     *         representing the ordered item, its quantity and the unit price paid, through the OrderLineService.</li>
      *     <li><b>Payment Request:</b> Builds a PaymentRequest object for the order—includes amount, method, order details, and customer.
      *         Sends this request to the PaymentClient to process payment.</li>
      *     <li><b>Order Confirmation Event:</b> Constructs an OrderConfirmation event containing order, customer, payment,
@@ -68,24 +76,45 @@ public class OrderService {
         // 2. Attempt to purchase requested products (transactional safety)
         var purchasedProducts = productClient.purchaseProducts(request.products());
 
-        // 3. Convert order DTO to entity and save to DB
-        var order = this.repository.save(mapper.toOrder(request));
+        // 3. Price every line with the price returned by the product service and compute the total in cents
+        var pricesByProduct = purchasedProducts.stream()
+                .collect(Collectors.toMap(PurchaseResponse::productId, product -> OrderTotals.toCents(product.price()), (first, second) -> first));
+        int lineCount = request.products().size();
+        long[] unitPriceCents = new long[lineCount];
+        double[] quantities = new double[lineCount];
+        for (int i = 0; i < lineCount; i++) {
+            PurchaseRequest purchaseRequest = request.products().get(i);
+            Long price = pricesByProduct.get(purchaseRequest.productId());
+            if (price == null) {
+                throw new BusinessException("Cannot create order:: No price returned for product " + purchaseRequest.productId());
+            }
+            unitPriceCents[i] = price;
+            quantities[i] = purchaseRequest.quantity();
+        }
+        var totalAmount = OrderTotals.fromCents(OrderTotals.totalCents(unitPriceCents, quantities));
+
+        // 4. Convert order DTO to entity and save to DB
+        var newOrder = mapper.toOrder(request);
+        newOrder.setTotalAmount(totalAmount);
+        var order = this.repository.save(newOrder);
 
-        // 4. For each purchased product, create and save an OrderLine for tracking items in the order
-        for (PurchaseRequest purchaseRequest : request.products()) {
+        // 5. For each purchased product, create and save an OrderLine for tracking items in the order
+        for (int i = 0; i < lineCount; i++) {
+            PurchaseRequest purchaseRequest = request.products().get(i);
             orderLineService.saveOrderLine(
                     new OrderLineRequest(
                             null,
                             order.getId(),
                             purchaseRequest.productId(),
-                            purchaseRequest.quantity()
+                            purchaseRequest.quantity(),
+                            OrderTotals.fromCents(unitPriceCents[i])
                     )
             );
         }
 
-        // 5. Build and send a payment request
+        // 6. Build and send a payment request
         var paymentRequest = new PaymentRequest(
-                request.amount(),
+                totalAmount,
                 request.paymentMethod(),
                 order.getId(),
                 order.getReference(),
@@ -93,11 +122,11 @@ public class OrderService {
         );
         paymentClient.requestOrderPayment(paymentRequest);
 
-        // 6. Build and publish an order confirmation event to Kafka
+        // 7. Build and publish an order confirmation event to Kafka
         orderProducer.sendOrderConfirmation(
                 new OrderConfirmation(
                         request.reference(),
-                        request.amount(),
+                        totalAmount,
                         request.paymentMethod(),
                         customer,
                         purchasedProducts
@@ -121,4 +150,39 @@ public class OrderService {
                 .map(this.mapper::fromOrder)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("No order found with the provided ID: %d", id)));
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns one page of a customer's orders, newest first, each with its lines.
+     * <p>
+     * Two queries regardless of page size: the page of ids (served by the customer_id/created_date index),
+     * then the orders and their lines with one fetch join.
+     *
+     * @param customerId the customer whose orders are listed
+     * @param from       inclusive lower bound of the creation date, or {@code null} for no lower bound
+     * @param to         exclusive upper bound of the creation date, or {@code null} for no upper bound
+     * @param page       zero-based page number
+     * @param size       orders per page
+     */
+    @Transactional(readOnly = true)
+    public OrderHistoryPage findOrderHistory(String customerId, LocalDateTime from, LocalDateTime to, int page, int size) {
+        var ids = this.repository.findIdsByCustomer(
+                customerId,
+                from,
+                to,
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdDate", "id"))
+        );
+        if (ids.isEmpty()) {
+            return new OrderHistoryPage(List.of(), page, size, false);
+        }
+        var ordersById = this.repository.findAllWithLinesByIdIn(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        // Keep the order of the id page (newest first); skip orders deleted between the two queries
+        var content = ids.getContent().stream()
+                .map(ordersById::get)
+                .filter(Objects::nonNull)
+                .map(this.mapper::toOrderHistoryResponse)
+                .toList();
+        return new OrderHistoryPage(content, page, size, ids.hasNext());
+    }
+}
@@ -0,0 +1,61 @@
+package com.micro.order.order;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Order total arithmetic on whole cents ({@code long}).
+ * <p>
+ * Prices are converted from {@link BigDecimal} once at the boundary and the total is summed as a primitive
+ * {@code long}. Line totals are computed exactly in decimal and rounded half-up to the cent (quantities may be
+ * fractional, and a binary double product such as 15 x 4.1 = 61.4999... would round the wrong way), and overflow
+ * fails loudly instead of wrapping.
+ */
+public final class OrderTotals {
+
+    private OrderTotals() {
+    }
+
+    /** Converts a price to cents, rounding half-up to two decimals (prices are stored as numeric(38, 2)). */
+    public static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** Converts cents back to an amount with two decimals. */
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Total of one line, rounded half-up to the cent.
+     * <p>
+     * The quantity is taken at its decimal value ({@link BigDecimal#valueOf(double)}, i.e. 4.1 is 4.1, not the
+     * nearest binary double), so half-cent products always round up.
+     *
+     * @throws ArithmeticException if the line total does not fit in a {@code long}
+     */
+    public static long lineTotalCents(long unitPriceCents, double quantity) {
+        return BigDecimal.valueOf(quantity)
+                .multiply(BigDecimal.valueOf(unitPriceCents))
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * Sums the line totals of an order.
+     *
+     * @param unitPriceCents unit price of each line, in cents
+     * @param quantities     quantity of each line, same order as {@code unitPriceCents}
+     * @return the order total in cents
+     */
+    public static long totalCents(long[] unitPriceCents, double[] quantities) {
+        if (unitPriceCents.length != quantities.length) {
+            throw new IllegalArgumentException("Every line needs a price and a quantity");
+        }
+        long total = 0;
+        for (int i = 0; i < unitPriceCents.length; i++) {
+            total = Math.addExact(total, lineTotalCents(unitPriceCents[i], quantities[i]));
+        }
+        return total;
+    }
+}
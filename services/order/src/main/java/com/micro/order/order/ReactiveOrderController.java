@@ -0,0 +1,36 @@
+package com.micro.order.order;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+/**
+ * Reactive order creation, served next to /api/v1/orders so both paths can be load-tested on the same instance.
+ * <p>
+ * The service still runs on the servlet stack; returning a Mono makes Spring MVC process the request asynchronously,
+ * so the request thread goes back to the pool as soon as the pipeline is assembled and nothing blocks until the
+ * response is written.
+ */
+@RestController
+@RequestMapping("/api/v2/orders")
+@RequiredArgsConstructor
+public class ReactiveOrderController {
+
+    private final ReactiveOrderService service;
+
+    @PostMapping
+    public Mono<ResponseEntity<Integer>> createOrder(
+            @RequestBody @Valid OrderRequest request,
+            @RequestHeader(value = AUTHORIZATION, required = false) String authorization
+    ) {
+        return this.service.createOrder(request, authorization).map(ResponseEntity::ok);
+    }
+}
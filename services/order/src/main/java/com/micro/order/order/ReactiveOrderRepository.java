@@ -0,0 +1,90 @@
+package com.micro.order.order;
+
+import com.micro.order.orderLine.OrderLine;
+import com.micro.order.orderLine.OrderLineRequest;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * ReactiveOrderRepository
+ * -----------------------
+ * R2DBC persistence for orders and order lines created through /api/v2/orders.
+ *
+ * Why do we need it?
+ * - Spring Data JPA is blocking; the reactive path writes the same tables through a non-blocking DatabaseClient.
+ *
+ * How does it work?
+ * - Writes the columns Hibernate maps for {@link Order} and {@code OrderLine}, so orders from both paths are
+ *   indistinguishable to readers (history, export, order-lines endpoints).
+ * - Ids come from the Hibernate sequences through {@link PooledLoSequence}, which reserves blocks the same way as
+ *   Hibernate's pooled-lo optimizer, so both paths can insert concurrently without id collisions.
+ * - All lines of an order go out as one batched statement (one round-trip), like the JDBC batching of the JPA path.
+ * - Transactions are demarcated by the caller with the reactive TransactionalOperator.
+ */
+@Repository
+public class ReactiveOrderRepository {
+
+    private static final String INSERT_ORDER = """
+            insert into customer_order (id, reference, total_amount, payment_method, customer_id, created_date)
+            values (:id, :reference, :totalAmount, :paymentMethod, :customerId, :createdDate)
+            """;
+
+    private static final String INSERT_LINE = """
+            insert into customer_line (id, order_id, product_id, quantity, unit_price)
+            values ($1, $2, $3, $4, $5)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final PooledLoSequence orderIds;
+    private final PooledLoSequence lineIds;
+
+    public ReactiveOrderRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.orderIds = new PooledLoSequence(databaseClient, "customer_order_seq", Order.ID_ALLOCATION_SIZE);
+        this.lineIds = new PooledLoSequence(databaseClient, "customer_line_seq", OrderLine.ID_ALLOCATION_SIZE);
+    }
+
+    public Mono<Integer> saveOrder(Order order) {
+        return orderIds.nextIds(1).flatMap(ids -> {
+            Integer id = ids.get(0);
+            var spec = databaseClient.sql(INSERT_ORDER).bind("id", id);
+            spec = order.getReference() != null
+                    ? spec.bind("reference", order.getReference())
+                    : spec.bindNull("reference", String.class); // rejected by the NOT NULL constraint, like the JPA path
+            return spec
+                    .bind("totalAmount", order.getTotalAmount())
+                    .bind("paymentMethod", order.getPaymentMethod().name())
+                    .bind("customerId", order.getCustomerId())
+                    .bind("createdDate", order.getCreatedDate())
+                    .then()
+                    .thenReturn(id);
+        });
+    }
+
+    public Mono<Void> saveOrderLines(List<OrderLineRequest> lines) {
+        if (lines.isEmpty()) {
+            return Mono.empty();
+        }
+        return lineIds.nextIds(lines.size()).flatMap(ids -> databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_LINE);
+            for (int i = 0; i < lines.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                OrderLineRequest line = lines.get(i);
+                statement.bind(0, ids.get(i))
+                        .bind(1, line.orderId())
+                        .bind(2, line.productId())
+                        .bind(3, line.quantity())
+                        .bind(4, line.unitPrice());
+            }
+            return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+        }).then());
+    }
+}
@@ -0,0 +1,107 @@
+package com.micro.order.order;
+
+import com.micro.order.customer.CustomerResponse;
+import com.micro.order.customer.ReactiveCustomerClient;
+import com.micro.order.excpetis.BusinessException;
+import com.micro.order.kafka.OrderConfirmation;
+import com.micro.order.kafka.ReactiveOrderProducer;
+import com.micro.order.orderLine.OrderLineRequest;
+import com.micro.order.payment.PaymentRequest;
+import com.micro.order.payment.ReactivePaymentClient;
+import com.micro.order.product.PurchaseRequest;
+import com.micro.order.product.PurchaseResponse;
+import com.micro.order.product.ReactiveProductClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking variant of {@link OrderService#createOrder(OrderRequest)} behind /api/v2/orders.
+ * <p>
+ * Same workflow, same rules and same data written: customer check, product purchase, total computed from the
+ * purchase prices ({@link OrderTotals}), order and lines persisted, payment requested, confirmation published.
+ * Every step is a Mono, so a request holds no thread while it waits on the customer, product or payment service,
+ * PostgreSQL or Kafka. Persistence, payment and confirmation run in one R2DBC transaction, exactly like the
+ * {@code @Transactional} scope of the blocking path.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveOrderService {
+
+    private final ReactiveOrderRepository repository;
+    private final OrderMapper mapper;
+    private final ReactiveCustomerClient customerClient;
+    private final ReactiveProductClient productClient;
+    private final ReactivePaymentClient paymentClient;
+    private final ReactiveOrderProducer orderProducer;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * @param request       the order to create
+     * @param authorization the caller's Authorization header, forwarded to the downstream services (may be null)
+     * @return the id of the new order
+     */
+    public Mono<Integer> createOrder(OrderRequest request, String authorization) {
+        return customerClient.findCustomerById(request.customerId(), authorization)
+                .switchIfEmpty(Mono.error(() -> new BusinessException("Cannot create order:: No customer exists with the provided ID")))
+                .flatMap(customer -> productClient.purchaseProducts(request.products(), authorization)
+                        .flatMap(purchasedProducts -> persistAndConfirm(request, customer, purchasedProducts, authorization)));
+    }
+
+    private Mono<Integer> persistAndConfirm(
+            OrderRequest request,
+            CustomerResponse customer,
+            List<PurchaseResponse> purchasedProducts,
+            String authorization
+    ) {
+        long[] unitPriceCents = unitPriceCents(request, purchasedProducts);
+        double[] quantities = request.products().stream().mapToDouble(PurchaseRequest::quantity).toArray();
+        BigDecimal totalAmount = OrderTotals.fromCents(OrderTotals.totalCents(unitPriceCents, quantities));
+
+        var order = mapper.toOrder(request);
+        order.setTotalAmount(totalAmount);
+        order.setCreatedDate(LocalDateTime.now()); // JPA auditing does not apply to R2DBC inserts
+
+        Mono<Integer> workflow = repository.saveOrder(order)
+                .flatMap(orderId -> repository.saveOrderLines(toOrderLines(orderId, request, unitPriceCents))
+                        .then(paymentClient.requestOrderPayment(
+                                new PaymentRequest(totalAmount, request.paymentMethod(), orderId, request.reference(), customer),
+                                authorization))
+                        .then(orderProducer.sendOrderConfirmation(
+                                new OrderConfirmation(request.reference(), totalAmount, request.paymentMethod(), customer, purchasedProducts)))
+                        .thenReturn(orderId));
+        return transactionalOperator.transactional(workflow);
+    }
+
+    private static long[] unitPriceCents(OrderRequest request, List<PurchaseResponse> purchasedProducts) {
+        var pricesByProduct = purchasedProducts.stream()
+                .collect(Collectors.toMap(PurchaseResponse::productId, product -> OrderTotals.toCents(product.price()), (first, second) -> first));
+        long[] unitPriceCents = new long[request.products().size()];
+        for (int i = 0; i < unitPriceCents.length; i++) {
+            Integer productId = request.products().get(i).productId();
+            Long price = pricesByProduct.get(productId);
+            if (price == null) {
+                throw new BusinessException("Cannot create order:: No price returned for product " + productId);
+            }
+            unitPriceCents[i] = price;
+        }
+        return unitPriceCents;
+    }
+
+    private static List<OrderLineRequest> toOrderLines(Integer orderId, OrderRequest request, long[] unitPriceCents) {
+        List<OrderLineRequest> lines = new ArrayList<>(unitPriceCents.length);
+        for (int i = 0; i < unitPriceCents.length; i++) {
+            PurchaseRequest purchaseRequest = request.products().get(i);
+            lines.add(new OrderLineRequest(null, orderId, purchaseRequest.productId(), purchaseRequest.quantity(),
+                    OrderTotals.fromCents(unitPriceCents[i])));
+        }
+        return lines;
+    }
+}
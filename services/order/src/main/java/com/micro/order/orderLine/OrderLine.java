@@ -1,10 +1,14 @@
 package com.micro.order.orderLine;
 import com.micro.order.order.Order;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +16,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 
 @AllArgsConstructor // Lombok: all-fields constructor
 @Builder // Lombok: builder pattern
@@ -19,11 +25,16 @@ import lombok.Setter;
 @Setter // Lombok: setters for all fields
 @Entity // JPA: marks this as a DB-mapped entity
 @NoArgsConstructor // Lombok: no-argument constructor
-@Table(name = "customer_line") // JPA: table name mapping
+@Table(name = "customer_line", indexes = // JPA: table name mapping
+        @Index(name = "idx_customer_line_order_id", columnList = "order_id") // Lines are always loaded by order
+)
 public class OrderLine {
 
+    public static final int ID_ALLOCATION_SIZE = 100; // Ids reserved per customer_line_seq call (its INCREMENT BY, see V1__init_order_schema.sql)
+
     @Id // JPA: primary key for order line
-    @GeneratedValue // JPA: auto-generated unique ID
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_line_seq") // JPA: ids from a sequence
+    @SequenceGenerator(name = "customer_line_seq", sequenceName = "customer_line_seq", allocationSize = ID_ALLOCATION_SIZE) // One sequence call per 100 lines (pooled-lo)
     private Integer id; // Unique ID for each order line
 
     @ManyToOne // JPA: many lines can belong to one order
@@ -33,4 +44,7 @@ public class OrderLine {
     private Integer productId; // Product ID in this line
 
     private double quantity; // Quantity of that product in the order line
+
+    @Column(precision = 38, scale = 2) // JPA: same precision as product.price
+    private BigDecimal unitPrice; // Price per unit at the time of purchase (snapshot, later price changes don't affect it)
 }
\ No newline at end of file
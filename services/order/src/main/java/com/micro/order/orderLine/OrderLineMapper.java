@@ -15,13 +15,16 @@ public class OrderLineMapper {
                                 .build()
                 )
                 .quantity(request.quantity())
+                .unitPrice(request.unitPrice())
                 .build();
     }
 
     public OrderLineResponse toOrderLineResponse(OrderLine orderLine) {
         return new OrderLineResponse(
                 orderLine.getId(),
-                orderLine.getQuantity()
+                orderLine.getProductId(),
+                orderLine.getQuantity(),
+                orderLine.getUnitPrice()
         );
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.micro.order.orderLine;
 
+import java.math.BigDecimal;
+
 
 public record OrderLineRequest(
         Integer id,
         Integer orderId,
         Integer productId,
-        double quantity
+        double quantity,
+        BigDecimal unitPrice
 ) {
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.micro.order.orderLine;
 
+import java.math.BigDecimal;
+
 public record OrderLineResponse(
         Integer id,
-        double quantity
+        Integer productId,
+        double quantity,
+        BigDecimal unitPrice
 ) { }
\ No newline at end of file
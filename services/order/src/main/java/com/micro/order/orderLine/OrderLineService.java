@@ -17,6 +17,11 @@ public class OrderLineService {
         return repository.save(order).getId();
     }
 
+    // Saves the lines of many orders at once; inserts are grouped by hibernate.jdbc.batch_size
+    public void saveOrderLines(List<OrderLineRequest> requests) {
+        repository.saveAll(requests.stream().map(mapper::toOrderLine).toList());
+    }
+
     public List<OrderLineResponse> findAllByOrderId(Integer orderId) {
         return repository.findAllByOrderId(orderId)
                 .stream()
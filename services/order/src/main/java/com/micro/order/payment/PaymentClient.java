@@ -7,6 +7,8 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 /**
  * PaymentClient
  * -------------
@@ -74,4 +76,7 @@ public interface PaymentClient {
      */
     @PostMapping // Uses the base config URL mapped to /api/v1/payments
     Integer requestOrderPayment(@RequestBody PaymentRequest request);
+
+    @PostMapping("/batch") // Payments of a batch of orders in one call; ids are returned in request order
+    List<Integer> requestOrderPayments(@RequestBody List<PaymentRequest> requests);
 }
@@ -0,0 +1,39 @@
+package com.micro.order.payment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+/**
+ * ReactivePaymentClient
+ * ---------------------
+ * Non-blocking counterpart of {@link PaymentClient}, used by the reactive order path (/api/v2/orders).
+ * Posts the payment request as JSON to the payment service and emits the new payment id.
+ */
+@Service
+public class ReactivePaymentClient {
+
+    private final WebClient webClient;
+
+    public ReactivePaymentClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${application.config.payment-url}") String paymentUrl
+    ) {
+        this.webClient = webClientBuilder.clone().baseUrl(paymentUrl).build();
+    }
+
+    public Mono<Integer> requestOrderPayment(PaymentRequest request, String authorization) {
+        return webClient.post()
+                .headers(headers -> {
+                    if (authorization != null && !authorization.isBlank()) {
+                        headers.set(AUTHORIZATION, authorization);
+                    }
+                })
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(Integer.class);
+    }
+}
@@ -12,10 +12,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import java.util.List;
+import static com.micro.order.config.ServiceMediaTypes.APPLICATION_SMILE_VALUE;
+import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.HttpMethod.POST;
-import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 /**
  * ProductClient
@@ -54,28 +55,14 @@ public class ProductClient {
      * @throws BusinessException if product service returns an error status
      *
      * Process:
-     * - Prepare HTTP headers for a JSON payload.
+     * - Prepare HTTP headers for a Smile (binary JSON) payload and response.
      * - Build HttpEntity with payload and headers.
      * - Define response type (list of PurchaseResponse) for automatic parsing.
      * - Send request to product service, receive and return parsed response.
      * - If status is error, throw an exception with details.
      */
     public List<PurchaseResponse> purchaseProducts(List<PurchaseRequest> requestBody) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(CONTENT_TYPE, APPLICATION_JSON_VALUE);
-
-        /**
-         * You can pass tokens (JWT) or API keys as HTTP headers in FeignClient or RestTemplate requests.
-         * These prove your service’s identity, and the called service validates the token/key for secure integration—just like web clients,
-         * but service-to-service!
-         * This is a common and best practice in cloud-native and secure microservices environments.
-         * */
-        // ⬅️ forward Authorization header to product service (gateway)
-        String authHeader = httpServletRequest.getHeader(AUTHORIZATION);
-        if (authHeader != null && !authHeader.isBlank()) {
-            headers.set(AUTHORIZATION, authHeader);
-        }
-        HttpEntity<List<PurchaseRequest>> requestEntity = new HttpEntity<>(requestBody, headers);
+        HttpEntity<List<PurchaseRequest>> requestEntity = new HttpEntity<>(requestBody, headers());
         ParameterizedTypeReference<List<PurchaseResponse>> responseType = new ParameterizedTypeReference<>() {}; // for coverting the respnse to the need response type
 
         ResponseEntity<List<PurchaseResponse>> responseEntity = restTemplate.exchange(
@@ -93,4 +80,42 @@ public class ProductClient {
 
         return responseEntity.getBody();
     }
+
+    /**
+     * Puts back stock taken by {@link #purchaseProducts} when the orders it was bought for could not be created.
+     *
+     * @param requestBody the purchased product IDs and quantities
+     * @throws BusinessException if product service returns an error status
+     */
+    public void releaseProducts(List<PurchaseRequest> requestBody) {
+        ResponseEntity<Void> responseEntity = restTemplate.exchange(
+                productUrl + "/release",
+                POST,
+                new HttpEntity<>(requestBody, headers()),
+                Void.class
+        );
+        if (responseEntity.getStatusCode().isError()) {
+            throw new BusinessException("An error occurred while releasing the purchased products: "
+                    + responseEntity.getStatusCode());
+        }
+    }
+
+    private HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(CONTENT_TYPE, APPLICATION_SMILE_VALUE);
+        headers.set(ACCEPT, APPLICATION_SMILE_VALUE);
+
+        /**
+         * You can pass tokens (JWT) or API keys as HTTP headers in FeignClient or RestTemplate requests.
+         * These prove your service’s identity, and the called service validates the token/key for secure integration—just like web clients,
+         * but service-to-service!
+         * This is a common and best practice in cloud-native and secure microservices environments.
+         * */
+        // ⬅️ forward Authorization header to product service (gateway)
+        String authHeader = httpServletRequest.getHeader(AUTHORIZATION);
+        if (authHeader != null && !authHeader.isBlank()) {
+            headers.set(AUTHORIZATION, authHeader);
+        }
+        return headers;
+    }
 }
@@ -0,0 +1,58 @@
+package com.micro.order.product;
+
+import com.micro.order.config.ServiceMediaTypes;
+import com.micro.order.excpetis.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+/**
+ * ReactiveProductClient
+ * ---------------------
+ * Non-blocking counterpart of {@link ProductClient}, used by the reactive order path (/api/v2/orders).
+ *
+ * How does it work?
+ * - POSTs the purchase requests to {@code /purchase} as Smile and reads the Smile response, like ProductClient.
+ * - Any error status becomes a BusinessException with the same message as the blocking client.
+ */
+@Service
+public class ReactiveProductClient {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(ServiceMediaTypes.APPLICATION_SMILE_VALUE);
+    private static final ParameterizedTypeReference<List<PurchaseResponse>> RESPONSE_TYPE = new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+
+    public ReactiveProductClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${application.config.product-url}") String productUrl
+    ) {
+        this.webClient = webClientBuilder.clone().baseUrl(productUrl).build();
+    }
+
+    public Mono<List<PurchaseResponse>> purchaseProducts(List<PurchaseRequest> requestBody, String authorization) {
+        return webClient.post()
+                .uri("/purchase")
+                .contentType(APPLICATION_SMILE)
+                .accept(APPLICATION_SMILE)
+                .headers(headers -> {
+                    if (authorization != null && !authorization.isBlank()) {
+                        headers.set(AUTHORIZATION, authorization);
+                    }
+                })
+                .bodyValue(requestBody)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> response.releaseBody()
+                        .then(Mono.error(new BusinessException("An error occurred while processing the products purchase: "
+                                + response.statusCode()))))
+                .bodyToMono(RESPONSE_TYPE);
+    }
+}
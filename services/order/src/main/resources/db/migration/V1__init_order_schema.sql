@@ -0,0 +1,36 @@
+create table if not exists customer_order
+(
+    id                 integer      not null
+        primary key,
+    created_date       timestamp(6) not null,
+    customer_id        varchar(255),
+    last_modified_date timestamp(6),
+    payment_method     varchar(255),
+    reference          varchar(255) not null
+        constraint uk_customer_order_reference
+            unique,
+    total_amount       numeric(38, 2)
+);
+
+create table if not exists customer_line
+(
+    id         integer          not null
+        primary key,
+    product_id integer,
+    quantity   double precision not null,
+    unit_price numeric(38, 2),
+    order_id   integer
+        constraint fk_customer_line_order
+            references customer_order
+);
+
+create index if not exists idx_customer_order_customer_id_created_date on customer_order (customer_id, created_date);
+create index if not exists idx_customer_order_created_date on customer_order (created_date);
+create index if not exists idx_customer_line_order_id on customer_line (order_id);
+
+-- Hibernate allocates ids with the pooled-lo optimizer (allocationSize = 100, see Order and OrderLine):
+-- one nextval reserves [value, value + 99]. The alter statements also fix sequences left by ddl-auto: create (increment 50).
+create sequence if not exists customer_order_seq increment by 100;
+create sequence if not exists customer_line_seq increment by 100;
+alter sequence customer_order_seq increment by 100;
+alter sequence customer_line_seq increment by 100;
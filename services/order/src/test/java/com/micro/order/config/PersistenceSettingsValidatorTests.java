@@ -0,0 +1,57 @@
+package com.micro.order.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistenceSettingsValidatorTests {
+
+	@Test
+	void acceptsTheSharedProfile() {
+		HikariConfig hikari = sharedProfile();
+
+		assertThat(PersistenceSettingsValidator.validate(hikari, 50, "pooled-lo")).isEmpty();
+	}
+
+	@Test
+	void onlyWarnsAboutBatchingWithoutRewrittenInserts() {
+		HikariConfig hikari = sharedProfile();
+		hikari.addDataSourceProperty("reWriteBatchedInserts", "false");
+
+		assertThat(PersistenceSettingsValidator.validate(hikari, 50, "pooled-lo")).isEmpty();
+	}
+
+	@Test
+	void acceptsUnbatchedServicesWithoutRewrittenInserts() {
+		HikariConfig hikari = sharedProfile();
+		hikari.getDataSourceProperties().remove("reWriteBatchedInserts");
+
+		assertThat(PersistenceSettingsValidator.validate(hikari, 1, "pooled-lo")).isEmpty();
+	}
+
+	@Test
+	void rejectsMoreIdleConnectionsThanThePoolHolds() {
+		HikariConfig hikari = sharedProfile();
+		hikari.setMaximumPoolSize(5);
+
+		assertThat(PersistenceSettingsValidator.validate(hikari, 50, "pooled-lo"))
+				.singleElement().asString().contains("minimum-idle");
+	}
+
+	@Test
+	void rejectsTheHighValuePooledOptimizer() {
+		assertThat(PersistenceSettingsValidator.validate(sharedProfile(), 50, "pooled"))
+				.singleElement().asString().contains("pooled-lo");
+	}
+
+	private static HikariConfig sharedProfile() {
+		HikariConfig hikari = new HikariConfig();
+		hikari.setMaximumPoolSize(10);
+		hikari.setMinimumIdle(10);
+		hikari.setConnectionTimeout(3000);
+		hikari.addDataSourceProperty("reWriteBatchedInserts", "true");
+		hikari.addDataSourceProperty("preparedStatementCacheQueries", "512");
+		return hikari;
+	}
+}
@@ -0,0 +1,71 @@
+package com.micro.order.kafka;
+
+import com.micro.order.customer.CustomerResponse;
+import com.micro.order.order.PaymentMethod;
+import com.micro.order.product.PurchaseResponse;
+import org.apache.avro.Conversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round trip of the order-topic Avro encoding with the producer's own schema. That the notification service knows
+ * this schema version is checked there ({@code AvroEventDeserializerTests}).
+ */
+class OrderConfirmationAvroSerializerTests {
+
+	private final OrderConfirmationAvroSerializer serializer = new OrderConfirmationAvroSerializer();
+
+	@Test
+	void amountsAreWrittenWithTwoDecimals() throws Exception {
+		var confirmation = new OrderConfirmation("ORD-1", new BigDecimal("149.9"), PaymentMethod.VISA,
+				new CustomerResponse("customer-1", "Jane", "Doe", "jane.doe@example.com"),
+				List.of(new PurchaseResponse(7, "Keyboard", "Mechanical", new BigDecimal("49"), 3)));
+
+		GenericRecord record = decode(serializer.serialize("order-topic", confirmation));
+
+		assertThat(record.get("orderReference")).hasToString("ORD-1");
+		assertThat(record.get("totalAmount")).isEqualTo(new BigDecimal("149.90"));
+		assertThat(record.get("paymentMethod")).hasToString("VISA");
+		assertThat(((GenericRecord) record.get("customer")).get("email")).hasToString("jane.doe@example.com");
+		GenericRecord product = (GenericRecord) ((List<?>) record.get("products")).get(0);
+		assertThat(product.get("productId")).isEqualTo(7);
+		assertThat(product.get("price")).isEqualTo(new BigDecimal("49.00"));
+		assertThat(product.get("quantity")).isEqualTo(3.0);
+	}
+
+	@Test
+	void missingCustomerAndProductsAreWrittenEmpty() throws Exception {
+		var confirmation = new OrderConfirmation("ORD-2", new BigDecimal("10.00"), PaymentMethod.PAYPAL, null, null);
+
+		GenericRecord record = decode(serializer.serialize("order-topic", confirmation));
+
+		GenericRecord customer = (GenericRecord) record.get("customer");
+		assertThat(customer.get("id")).isNull();
+		assertThat(customer.get("email")).isNull();
+		assertThat((List<?>) record.get("products")).isEmpty();
+	}
+
+	@Test
+	void fractionsOfACentFailInsteadOfBeingRounded() {
+		var confirmation = new OrderConfirmation("ORD-3", new BigDecimal("10.005"), PaymentMethod.VISA, null, List.of());
+
+		assertThatThrownBy(() -> serializer.serialize("order-topic", confirmation))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("ORD-3");
+	}
+
+	private static GenericRecord decode(byte[] data) throws Exception {
+		GenericData model = new GenericData();
+		model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+		return new BinaryMessageDecoder<GenericRecord>(model, OrderConfirmationAvroSerializer.SCHEMA).decode(data);
+	}
+}
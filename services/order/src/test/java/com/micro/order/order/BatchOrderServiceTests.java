@@ -0,0 +1,139 @@
+package com.micro.order.order;
+
+import com.micro.order.customer.CustomerClient;
+import com.micro.order.customer.CustomerResponse;
+import com.micro.order.excpetis.BusinessException;
+import com.micro.order.kafka.OrderProducer;
+import com.micro.order.orderLine.OrderLineService;
+import com.micro.order.payment.PaymentClient;
+import com.micro.order.product.ProductClient;
+import com.micro.order.product.PurchaseRequest;
+import com.micro.order.product.PurchaseResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.micro.order.order.BatchOrderResult.Status.CREATED;
+import static com.micro.order.order.BatchOrderResult.Status.FAILED;
+import static com.micro.order.order.BatchOrderResult.Status.REJECTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link BatchOrderService} with mocked repositories and clients: per-order validation, the single merged purchase,
+ * and giving stock back when a later step fails.
+ */
+class BatchOrderServiceTests {
+
+	private static final List<CustomerResponse> CUSTOMERS = List.of(
+			new CustomerResponse("customer-1", "Jane", "Doe", "jane.doe@example.com"));
+	private static final List<PurchaseResponse> PURCHASED = List.of(
+			new PurchaseResponse(1, "Keyboard", "Mechanical", new BigDecimal("49.99"), 5),
+			new PurchaseResponse(2, "Mouse", "Wireless", new BigDecimal("19.99"), 1));
+
+	private final OrderRepository repository = mock(OrderRepository.class);
+	private final CustomerClient customerClient = mock(CustomerClient.class);
+	private final PaymentClient paymentClient = mock(PaymentClient.class);
+	private final ProductClient productClient = mock(ProductClient.class);
+	private final OrderLineService orderLineService = mock(OrderLineService.class);
+	private final OrderProducer orderProducer = mock(OrderProducer.class);
+	private final BatchOrderService service = new BatchOrderService(repository, new OrderMapper(), customerClient,
+			paymentClient, productClient, orderLineService, orderProducer);
+
+	@BeforeEach
+	void setUp() {
+		when(customerClient.findCustomersByIds(any())).thenReturn(CUSTOMERS);
+		when(repository.findExistingReferences(any())).thenReturn(Set.of("TAKEN"));
+		when(productClient.purchaseProducts(anyList())).thenReturn(PURCHASED);
+		when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<Order> orders = new ArrayList<>(invocation.<List<Order>>getArgument(0));
+			for (int i = 0; i < orders.size(); i++) {
+				orders.get(i).setId(100 + i);
+			}
+			return orders;
+		});
+	}
+
+	@Test
+	void invalidOrdersAreRejectedIndividuallyInRequestOrder() {
+		var results = service.createOrders(List.of(
+				order(null, "customer-1"),
+				order("A-1", "customer-1"),
+				order("A-1", "customer-1"),
+				order("TAKEN", "customer-1"),
+				order("B-1", "unknown"),
+				order("C-1", "customer-1")));
+
+		assertThat(results).extracting(BatchOrderResult::index).containsExactly(0, 1, 2, 3, 4, 5);
+		assertThat(results).extracting(BatchOrderResult::status)
+				.containsExactly(REJECTED, CREATED, REJECTED, REJECTED, REJECTED, CREATED);
+		assertThat(results).extracting(BatchOrderResult::error).containsExactly(
+				"Order reference is required",
+				null,
+				"An order with this reference already exists",
+				"An order with this reference already exists",
+				"No customer exists with the provided ID",
+				null);
+		assertThat(results).extracting(BatchOrderResult::orderId).containsExactly(null, 100, null, null, null, 101);
+	}
+
+	@Test
+	void quantitiesAreMergedIntoOnePurchasePerProduct() {
+		service.createOrders(List.of(
+				order("A-1", "customer-1", new PurchaseRequest(2, 1), new PurchaseRequest(1, 2)),
+				order("A-2", "customer-1", new PurchaseRequest(1, 3))));
+
+		verify(productClient).purchaseProducts(List.of(new PurchaseRequest(1, 5), new PurchaseRequest(2, 1)));
+	}
+
+	@Test
+	void failedPurchaseFailsEveryAcceptedOrder() {
+		when(productClient.purchaseProducts(anyList())).thenThrow(new BusinessException("Insufficient stock"));
+
+		var results = service.createOrders(List.of(order("A-1", "customer-1"), order("TAKEN", "customer-1"),
+				order("A-2", "customer-1")));
+
+		assertThat(results).extracting(BatchOrderResult::status).containsExactly(FAILED, REJECTED, FAILED);
+		assertThat(results.get(0).error()).isEqualTo("Products could not be purchased: Insufficient stock");
+		verify(repository, never()).saveAll(anyList());
+		verify(paymentClient, never()).requestOrderPayments(anyList());
+		verify(productClient, never()).releaseProducts(anyList());
+	}
+
+	@Test
+	void purchasedStockIsReleasedWhenThePaymentCallFails() {
+		when(paymentClient.requestOrderPayments(anyList())).thenThrow(new IllegalStateException("payment-service down"));
+
+		assertThatThrownBy(() -> service.createOrders(List.of(order("A-1", "customer-1"), order("A-2", "customer-1"))))
+				.hasMessage("payment-service down");
+
+		verify(productClient).releaseProducts(List.of(new PurchaseRequest(1, 2)));
+		verify(orderProducer, never()).sendOrderConfirmations(anyList());
+	}
+
+	@Test
+	void failedReleaseKeepsTheOriginalFailure() {
+		doThrow(new IllegalStateException("kafka down")).when(orderProducer).sendOrderConfirmations(anyList());
+		doThrow(new BusinessException("product-service down")).when(productClient).releaseProducts(anyList());
+
+		assertThatThrownBy(() -> service.createOrders(List.of(order("A-1", "customer-1"))))
+				.hasMessage("kafka down")
+				.satisfies(e -> assertThat(e.getSuppressed()).singleElement().isInstanceOf(BusinessException.class));
+	}
+
+	private static OrderRequest order(String reference, String customerId, PurchaseRequest... products) {
+		return new OrderRequest(null, reference, null, PaymentMethod.VISA, customerId,
+				products.length == 0 ? List.of(new PurchaseRequest(1, 1)) : List.of(products));
+	}
+}
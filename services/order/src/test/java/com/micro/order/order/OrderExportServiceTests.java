@@ -0,0 +1,81 @@
+package com.micro.order.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderExportService on the Flyway schema: each date bound is applied only when it is given.
+ */
+class OrderExportServiceTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.now();
+
+	private static EmbeddedPostgres postgres;
+	private static OrderExportService exportService;
+
+	@BeforeAll
+	static void start() throws Exception {
+		postgres = EmbeddedPostgres.start();
+		DataSource dataSource = postgres.getPostgresDatabase();
+		Flyway.configure().dataSource(dataSource).load().migrate();
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("""
+					insert into customer_order (id, reference, total_amount, payment_method, customer_id, created_date)
+					values (1, 'PAST', 10, 'VISA', 'customer-1', now() - interval '1 year'),
+					       (2, 'RECENT', 10, 'VISA', 'customer-1', now() - interval '1 day'),
+					       (3, 'FUTURE', 10, 'VISA', 'customer-1', now() + interval '1 month')
+					""");
+		}
+		exportService = new OrderExportService(new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource), new ObjectMapper());
+		ReflectionTestUtils.setField(exportService, "pageSize", 2); // more than one keyset page
+		ReflectionTestUtils.setField(exportService, "fetchSize", 100);
+	}
+
+	@AfterAll
+	static void stop() throws Exception {
+		postgres.close();
+	}
+
+	@Test
+	void noBoundsIncludeFutureDatedOrders() throws IOException {
+		assertThat(exportCsv(null, null)).contains("PAST", "RECENT", "FUTURE");
+	}
+
+	@Test
+	void lowerBoundOnly() throws IOException {
+		assertThat(exportCsv(NOW.minusDays(7), null)).contains("RECENT", "FUTURE").doesNotContain("PAST");
+	}
+
+	@Test
+	void upperBoundOnly() throws IOException {
+		assertThat(exportCsv(null, NOW)).contains("PAST", "RECENT").doesNotContain("FUTURE");
+	}
+
+	@Test
+	void bothBounds() throws IOException {
+		assertThat(exportCsv(NOW.minusDays(7), NOW)).contains("RECENT").doesNotContain("PAST", "FUTURE");
+	}
+
+	private static String exportCsv(LocalDateTime from, LocalDateTime to) throws IOException {
+		var out = new ByteArrayOutputStream();
+		exportService.export(out, OrderExportFormat.CSV, from, to);
+		return out.toString(UTF_8);
+	}
+}
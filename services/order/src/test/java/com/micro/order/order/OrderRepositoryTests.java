@@ -0,0 +1,95 @@
+package com.micro.order.order;
+
+import com.micro.order.orderLine.OrderLine;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderRepository's history queries on the Flyway schema: each date bound is applied only when it is given.
+ */
+class OrderRepositoryTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.now();
+	private static final Pageable NEWEST_FIRST = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdDate", "id"));
+
+	private static EmbeddedPostgres postgres;
+	private static SessionFactory sessionFactory;
+	private static EntityManager entityManager;
+	private static OrderRepository repository;
+
+	@BeforeAll
+	static void start() throws Exception {
+		postgres = EmbeddedPostgres.start();
+		DataSource dataSource = postgres.getPostgresDatabase();
+		Flyway.configure().dataSource(dataSource).load().migrate();
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			// A year ago, yesterday, and dated a month ahead (clock skew, scheduled imports)
+			statement.execute("""
+					insert into customer_order (id, reference, total_amount, payment_method, customer_id, created_date)
+					values (1, 'PAST', 10, 'VISA', 'customer-1', now() - interval '1 year'),
+					       (2, 'RECENT', 10, 'VISA', 'customer-1', now() - interval '1 day'),
+					       (3, 'FUTURE', 10, 'VISA', 'customer-1', now() + interval '1 month'),
+					       (4, 'OTHER', 10, 'VISA', 'customer-2', now())
+					""");
+		}
+
+		var configuration = new Configuration()
+				.addAnnotatedClass(Order.class)
+				.addAnnotatedClass(OrderLine.class);
+		configuration.getProperties().put(AvailableSettings.DATASOURCE, dataSource);
+		configuration.getProperties().put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy());
+		sessionFactory = configuration.buildSessionFactory();
+		entityManager = sessionFactory.createEntityManager();
+		repository = new JpaRepositoryFactory(entityManager).getRepository(OrderRepository.class);
+	}
+
+	@AfterAll
+	static void stop() throws Exception {
+		entityManager.close();
+		sessionFactory.close();
+		postgres.close();
+	}
+
+	@Test
+	void noBoundsIncludeFutureDatedOrders() {
+		assertThat(repository.findIdsByCustomer("customer-1", null, null, NEWEST_FIRST))
+				.containsExactly(3, 2, 1);
+	}
+
+	@Test
+	void lowerBoundOnly() {
+		assertThat(repository.findIdsByCustomer("customer-1", NOW.minusDays(7), null, NEWEST_FIRST))
+				.containsExactly(3, 2);
+	}
+
+	@Test
+	void upperBoundOnly() {
+		assertThat(repository.findIdsByCustomer("customer-1", null, NOW, NEWEST_FIRST))
+				.containsExactly(2, 1);
+	}
+
+	@Test
+	void bothBounds() {
+		assertThat(repository.findIdsByCustomer("customer-1", NOW.minusDays(7), NOW, NEWEST_FIRST))
+				.containsExactly(2);
+	}
+}
@@ -0,0 +1,66 @@
+package com.micro.order.order;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderTotalsTests {
+
+	@Test
+	void sumsLineTotalsInCents() {
+		long[] prices = {OrderTotals.toCents(new BigDecimal("99.99")), OrderTotals.toCents(new BigDecimal("0.10"))};
+		double[] quantities = {3, 7};
+
+		assertThat(OrderTotals.fromCents(OrderTotals.totalCents(prices, quantities)))
+				.isEqualByComparingTo("300.67");
+	}
+
+	@Test
+	void roundsFractionalQuantitiesHalfUpToTheCent() {
+		assertThat(OrderTotals.lineTotalCents(199, 0.5)).isEqualTo(100);
+		assertThat(OrderTotals.lineTotalCents(333, 1.5)).isEqualTo(500);
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			// price cents, quantity, line total cents: exact products ending in .5 cents
+			"15, 4.1, 62",
+			"25, 0.58, 15",
+			"1, 0.5, 1",
+			"3, 1.5, 5",
+			"105, 0.1, 11",
+			"1999, 0.5, 1000",
+			"7, 2.5, 18"
+	})
+	void roundsHalfCentsUp(long unitPriceCents, double quantity, long expected) {
+		assertThat(OrderTotals.lineTotalCents(unitPriceCents, quantity)).isEqualTo(expected);
+	}
+
+	@Test
+	void staysExactBeyondDoublePrecision() {
+		long price = (1L << 53) + 1;
+
+		assertThat(OrderTotals.lineTotalCents(price, 1)).isEqualTo(price);
+		assertThat(OrderTotals.lineTotalCents(price, 0.5)).isEqualTo((price + 1) / 2);
+	}
+
+	@Test
+	void failsInsteadOfOverflowingALine() {
+		assertThatThrownBy(() -> OrderTotals.lineTotalCents(Long.MAX_VALUE, 2)).isInstanceOf(ArithmeticException.class);
+	}
+
+	@Test
+	void failsInsteadOfOverflowingTheSum() {
+		// Each line fits in a long, their sum does not
+		long[] prices = {Long.MAX_VALUE / 2 + 1, Long.MAX_VALUE / 2 + 1};
+
+		assertThat(OrderTotals.lineTotalCents(prices[0], 1)).isEqualTo(prices[0]);
+		assertThatThrownBy(() -> OrderTotals.totalCents(prices, new double[]{1, 1}))
+				.isInstanceOf(ArithmeticException.class);
+	}
+}
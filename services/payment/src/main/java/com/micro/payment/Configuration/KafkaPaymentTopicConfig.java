@@ -1,6 +1,7 @@
  package com.micro.payment.Configuration;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
@@ -8,10 +9,14 @@ import org.springframework.kafka.config.TopicBuilder;
 @Configuration
 public class KafkaPaymentTopicConfig {
 
+  // Keyed by order reference; the partition count bounds how many notification consumers share the topic
   @Bean
-  public NewTopic paymentTopic() {
+  public NewTopic paymentTopic(
+      @Value("${application.kafka.payment-topic.partitions:6}") int partitions
+  ) {
     return TopicBuilder
             .name("payment-topic")
+            .partitions(partitions)
             .build();
   }
 }
@@ -6,6 +6,9 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+import static org.springframework.kafka.support.KafkaHeaders.KEY;
 import static org.springframework.kafka.support.KafkaHeaders.TOPIC;
 
 /**
@@ -26,7 +29,8 @@ import static org.springframework.kafka.support.KafkaHeaders.TOPIC;
  * <b>How it works:</b>
  * <ul>
  *   <li>Uses Spring's KafkaTemplate, which handles serialization, connection, and error handling for sending messages.</li>
- *   <li>Each notification event (PaymentNotificationRequest) is published to the "payment-topic" Kafka topic.</li>
+ *   <li>Each notification event (PaymentNotificationRequest) is published to the "payment-topic" Kafka topic,
+ *       keyed by order reference so the events of one order stay on one partition, in order.</li>
  *   <li>Annotation <code>@Service</code> makes the producer injectable in other beans (ie. PaymentService).</li>
  *   <li><code>@Slf4j</code> provides structured logging for debug and monitoring.</li>
  *   <li><code>@RequiredArgsConstructor</code> creates a constructor for required dependencies.</li>
@@ -50,7 +54,7 @@ public class NotificationProducer {
 
     /**
      * KafkaTemplate provided by Spring, parameterized with:
-     * - key type (String): for partitioning, usually null or generic in notifications.
+     * - key type (String): the order reference, used for partitioning.
      * - value type (PaymentNotificationRequest): the event payload.
      */
     private final KafkaTemplate<String, PaymentNotificationRequest> kafkaTemplate;
@@ -63,7 +67,7 @@ public class NotificationProducer {
      * <ol>
      *  <li>Logs the notification publish intent and body for traceability.</li>
      *  <li>Builds a Message object with the notification request and topic header.</li>
-     *  <li>Sends the message using KafkaTemplate; serialization to JSON is handled automatically by Spring Kafka.</li>
+     *  <li>Sends the message using KafkaTemplate; the configured value serializer (PaymentNotificationAvroSerializer) encodes the event.</li>
      * </ol>
      * </p>
      *
@@ -76,9 +80,26 @@ public class NotificationProducer {
         Message<PaymentNotificationRequest> message = MessageBuilder
                 .withPayload(request)          // Set message data as event object
                 .setHeader(TOPIC, "payment-topic") // Specify Kafka topic for event
+                .setHeader(KEY, request.orderReference()) // Partition by order reference
                 .build();
 
         // Send message to Kafka (asynchronously by default)
         kafkaTemplate.send(message);
     }
+
+    /**
+     * Sends the notifications of a batch of payments, then flushes the producer once
+     * so they leave in as few requests as possible and are on the broker when the call returns.
+     */
+    public void sendNotifications(List<PaymentNotificationRequest> requests) {
+        log.info("Sending {} payment notifications", requests.size());
+        for (PaymentNotificationRequest request : requests) {
+            kafkaTemplate.send(MessageBuilder
+                    .withPayload(request)
+                    .setHeader(TOPIC, "payment-topic")
+                    .setHeader(KEY, request.orderReference())
+                    .build());
+        }
+        kafkaTemplate.flush();
+    }
 }
@@ -0,0 +1,77 @@
+package com.micro.payment.notification;
+
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+
+/**
+ * PaymentNotificationAvroSerializer
+ * ---------------------------------
+ * Kafka value serializer writing {@link PaymentNotificationRequest} as Avro (single-object encoding).
+ *
+ * Why do we need it?
+ * - JSON repeats every field name in every record and needs a type-mapping header; Avro writes only the values.
+ *
+ * How does it work?
+ * - The schema is {@code avro/payment-confirmation-v1.avsc}; the notification service holds a copy of every version.
+ * - Single-object encoding prefixes the body with the schema's 64-bit fingerprint, so the consumer finds the
+ *   writer schema without a schema registry.
+ * - The amount is written as decimal(38, 2), like the payment.amount column; more decimals fail instead of rounding.
+ * - To go back to JSON, configure spring-kafka's JsonSerializer again: the consumer reads both.
+ */
+public class PaymentNotificationAvroSerializer implements Serializer<PaymentNotificationRequest> {
+
+    static final Schema SCHEMA = loadSchema("avro/payment-confirmation-v1.avsc");
+
+    private static final Schema PAYMENT_METHOD = SCHEMA.getField("paymentMethod").schema();
+
+    private final BinaryMessageEncoder<GenericRecord> encoder;
+
+    public PaymentNotificationAvroSerializer() {
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        this.encoder = new BinaryMessageEncoder<>(model, SCHEMA);
+    }
+
+    @Override
+    public byte[] serialize(String topic, PaymentNotificationRequest data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            GenericRecord record = new GenericData.Record(SCHEMA);
+            record.put("orderReference", data.orderReference());
+            record.put("amount", data.amount().setScale(2, RoundingMode.UNNECESSARY));
+            record.put("paymentMethod", new GenericData.EnumSymbol(PAYMENT_METHOD, data.paymentMethod().name()));
+            record.put("customerFirstname", data.customerFirstname());
+            record.put("customerLastname", data.customerLastname());
+            record.put("customerEmail", data.customerEmail());
+            ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+            encoder.encode(record, out);
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Cannot serialize payment notification " + data.orderReference() + " for " + topic, e);
+        }
+    }
+
+    private static Schema loadSchema(String resource) {
+        try (InputStream in = PaymentNotificationAvroSerializer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing Avro schema " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
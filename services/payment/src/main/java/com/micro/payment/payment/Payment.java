@@ -7,7 +7,10 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -27,11 +30,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor
-@Table(name = "payment")
+@Table(name = "payment", indexes = @Index(name = "idx_payment_order_id", columnList = "order_id"))
 public class Payment {
 
+  // Ids reserved per payment_seq call (pooled-lo); must match its INCREMENT BY in V1__init_payment_schema.sql
+  public static final int ID_ALLOCATION_SIZE = 100;
+
   @Id
-  @GeneratedValue
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_seq")
+  @SequenceGenerator(name = "payment_seq", sequenceName = "payment_seq", allocationSize = ID_ALLOCATION_SIZE)
   private Integer id;
 
   private BigDecimal amount;
@@ -2,13 +2,19 @@ package com.micro.payment.payment;
 
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/payments")
 @RequiredArgsConstructor
@@ -22,4 +28,18 @@ public class PaymentController {
   ) {
     return ResponseEntity.ok(this.service.createPayment(request));
   }
+
+  @PostMapping("/batch")
+  public ResponseEntity<List<Integer>> createPayments(
+      @RequestBody @NotEmpty @Size(max = 500) List<@Valid PaymentRequest> requests
+  ) {
+    return ResponseEntity.ok(this.service.createPayments(requests));
+  }
+
+  @GetMapping("/order/{order-id}")
+  public ResponseEntity<List<PaymentResponse>> findByOrderId(
+      @PathVariable("order-id") Integer orderId
+  ) {
+    return ResponseEntity.ok(this.service.findAllByOrderId(orderId));
+  }
 }
@@ -17,4 +17,14 @@ public class PaymentMapper {
         .orderId(request.orderId())
         .build();
   }
+
+  public PaymentResponse fromPayment(Payment payment) {
+    return new PaymentResponse(
+        payment.getId(),
+        payment.getAmount(),
+        payment.getPaymentMethod(),
+        payment.getOrderId(),
+        payment.getCreatedDate()
+    );
+  }
 }
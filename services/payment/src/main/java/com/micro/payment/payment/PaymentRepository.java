@@ -1,8 +1,12 @@
 package com.micro.payment.payment;
 
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 
+  // Served by idx_payment_order_id (V2__index_payment_order_id.sql)
+  List<Payment> findAllByOrderId(Integer orderId);
+
 }
@@ -0,0 +1,13 @@
+package com.micro.payment.payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PaymentResponse(
+    Integer id,
+    BigDecimal amount,
+    PaymentMethod paymentMethod,
+    Integer orderId,
+    LocalDateTime createdDate
+) {
+}
@@ -5,6 +5,9 @@ import com.micro.payment.notification.NotificationProducer;
 import com.micro.payment.notification.PaymentNotificationRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -17,16 +20,43 @@ public class PaymentService {
   public Integer createPayment(PaymentRequest request) {
     var payment = this.repository.save(this.mapper.toPayment(request));
 
-    this.notificationProducer.sendNotification(
-            new PaymentNotificationRequest(
-                    request.orderReference(),
-                    request.amount(),
-                    request.paymentMethod(),
-                    request.customer().firstname(),
-                    request.customer().lastname(),
-                    request.customer().email()
-            )
-    );
+    this.notificationProducer.sendNotification(toNotification(request));
     return payment.getId();
   }
+
+  /**
+   * Creates the payments of a batch of orders: one batched insert (see hibernate.jdbc.batch_size)
+   * and one flush of the Kafka producer for all payment notifications.
+   *
+   * @return the payment ids, in request order
+   */
+  @Transactional
+  public List<Integer> createPayments(List<PaymentRequest> requests) {
+    var payments = this.repository.saveAll(
+            requests.stream().map(this.mapper::toPayment).toList()
+    );
+
+    this.notificationProducer.sendNotifications(
+            requests.stream().map(PaymentService::toNotification).toList()
+    );
+    return payments.stream().map(Payment::getId).toList();
+  }
+
+  public List<PaymentResponse> findAllByOrderId(Integer orderId) {
+    return this.repository.findAllByOrderId(orderId)
+        .stream()
+        .map(this.mapper::fromPayment)
+        .toList();
+  }
+
+  private static PaymentNotificationRequest toNotification(PaymentRequest request) {
+    return new PaymentNotificationRequest(
+            request.orderReference(),
+            request.amount(),
+            request.paymentMethod(),
+            request.customer().firstname(),
+            request.customer().lastname(),
+            request.customer().email()
+    );
+  }
 }
@@ -0,0 +1,15 @@
+create table if not exists payment
+(
+    id                 integer      not null
+        primary key,
+    amount             numeric(38, 2),
+    created_date       timestamp(6) not null,
+    last_modified_date timestamp(6),
+    order_id           integer,
+    payment_method     varchar(255)
+);
+
+-- Hibernate allocates ids with the pooled-lo optimizer (allocationSize = 100, see Payment):
+-- one nextval reserves [value, value + 99]. The alter statement also fixes a sequence left by ddl-auto: create (increment 50).
+create sequence if not exists payment_seq increment by 100;
+alter sequence payment_seq increment by 100;
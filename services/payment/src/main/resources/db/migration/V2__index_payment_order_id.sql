@@ -0,0 +1,2 @@
+-- Payments are looked up by order (GET /api/v1/payments/order/{order-id}); without this index every lookup scans the table.
+create index if not exists idx_payment_order_id on payment (order_id);
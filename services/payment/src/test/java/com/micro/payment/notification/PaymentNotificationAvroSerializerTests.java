@@ -0,0 +1,64 @@
+package com.micro.payment.notification;
+
+import com.micro.payment.payment.PaymentMethod;
+import org.apache.avro.Conversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round trip of the payment-topic Avro encoding with the producer's own schema. That the notification service knows
+ * this schema version is checked there ({@code AvroEventDeserializerTests}).
+ */
+class PaymentNotificationAvroSerializerTests {
+
+    private final PaymentNotificationAvroSerializer serializer = new PaymentNotificationAvroSerializer();
+
+    @Test
+    void amountIsWrittenWithTwoDecimals() throws Exception {
+        var notification = new PaymentNotificationRequest("ORD-1", new BigDecimal("59.9"), PaymentMethod.VISA,
+                "Jane", "Doe", "jane.doe@example.com");
+
+        GenericRecord record = decode(serializer.serialize("payment-topic", notification));
+
+        assertThat(record.get("orderReference")).hasToString("ORD-1");
+        assertThat(record.get("amount")).isEqualTo(new BigDecimal("59.90"));
+        assertThat(record.get("paymentMethod")).hasToString("VISA");
+        assertThat(record.get("customerEmail")).hasToString("jane.doe@example.com");
+    }
+
+    @Test
+    void missingCustomerDetailsAreWrittenAsNull() throws Exception {
+        var notification = new PaymentNotificationRequest("ORD-2", new BigDecimal("10"), PaymentMethod.PAYPAL,
+                null, null, null);
+
+        GenericRecord record = decode(serializer.serialize("payment-topic", notification));
+
+        assertThat(record.get("customerFirstname")).isNull();
+        assertThat(record.get("customerLastname")).isNull();
+        assertThat(record.get("customerEmail")).isNull();
+    }
+
+    @Test
+    void fractionsOfACentFailInsteadOfBeingRounded() {
+        var notification = new PaymentNotificationRequest("ORD-3", new BigDecimal("10.005"), PaymentMethod.VISA,
+                "Jane", "Doe", "jane.doe@example.com");
+
+        assertThatThrownBy(() -> serializer.serialize("payment-topic", notification))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("ORD-3");
+    }
+
+    private static GenericRecord decode(byte[] data) throws Exception {
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        return new BinaryMessageDecoder<GenericRecord>(model, PaymentNotificationAvroSerializer.SCHEMA).decode(data);
+    }
+}
@@ -0,0 +1,110 @@
+package com.micro.payment.payment;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations on an embedded PostgreSQL, seeds payments and checks with EXPLAIN
+ * that the lookup by order is served by idx_payment_order_id.
+ * <p>
+ * The query is the one Hibernate generates for {@link PaymentRepository#findAllByOrderId}, captured with a
+ * StatementInspector and planned with {@code EXPLAIN (GENERIC_PLAN)}, i.e. for any order id, like a prepared statement
+ * under {@code plan_cache_mode=force_generic_plan}.
+ */
+class PaymentIndexTests {
+
+  private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+  private static EmbeddedPostgres postgres;
+  private static DataSource dataSource;
+  private static SessionFactory sessionFactory;
+  private static EntityManager entityManager;
+  private static PaymentRepository repository;
+
+  @BeforeAll
+  static void migrateAndSeed() throws Exception {
+    postgres = EmbeddedPostgres.start();
+    dataSource = postgres.getPostgresDatabase();
+    Flyway.configure().dataSource(dataSource).load().migrate();
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("""
+          insert into payment (id, amount, payment_method, order_id, created_date)
+          select n, 59.97, 'VISA', n, timestamp '2025-01-01' + n * interval '1 minute'
+          from generate_series(1, 20000) n
+          """);
+      statement.execute("analyze");
+    }
+
+    var configuration = new Configuration().addAnnotatedClass(Payment.class);
+    configuration.getProperties().put(AvailableSettings.DATASOURCE, dataSource);
+    configuration.getProperties().put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy());
+    configuration.getProperties().put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+      STATEMENTS.add(sql);
+      return sql;
+    });
+    sessionFactory = configuration.buildSessionFactory();
+    entityManager = sessionFactory.createEntityManager();
+    repository = new JpaRepositoryFactory(entityManager).getRepository(PaymentRepository.class);
+  }
+
+  @AfterAll
+  static void stop() throws Exception {
+    entityManager.close();
+    sessionFactory.close();
+    postgres.close();
+  }
+
+  @Test
+  void paymentsByOrderUseOrderIdIndex() throws SQLException {
+    STATEMENTS.clear();
+    assertThat(repository.findAllByOrderId(4711)).hasSize(1);
+    assertThat(STATEMENTS).hasSize(1);
+
+    assertThat(genericPlan(STATEMENTS.get(0)))
+        .contains("idx_payment_order_id")
+        .doesNotContain("Seq Scan");
+  }
+
+  /** Plans {@code query} for any parameter values; JDBC placeholders are numbered like a prepared statement's. */
+  private static String genericPlan(String query) throws SQLException {
+    var numbered = new StringBuilder();
+    int parameter = 0;
+    for (char c : query.toCharArray()) {
+      if (c == '?') {
+        numbered.append('$').append(++parameter);
+      } else {
+        numbered.append(c);
+      }
+    }
+    List<String> lines = new ArrayList<>();
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet plan = statement.executeQuery("explain (generic_plan) " + numbered)) {
+      while (plan.next()) {
+        lines.add(plan.getString(1));
+      }
+    }
+    return String.join("\n", lines);
+  }
+}
@@ -3,8 +3,10 @@ import com.micro.product.product.Product;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,11 +28,15 @@ import java.util.List;
 // JPA annotation to mark this class as a persistent entity
 @Entity
 public class Category {
+    // Ids reserved per category_seq call; must match its INCREMENT BY (see V3__pooled_id_allocation.sql)
+    public static final int ID_ALLOCATION_SIZE = 100;
+
 
     // JPA annotation to mark 'id' as the primary key
     @Id
-    // JPA annotation to auto-generate the value of 'id'
-    @GeneratedValue
+    // JPA annotation to generate 'id' from category_seq, reserving a block of ids per sequence call (pooled-lo)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
+    @SequenceGenerator(name = "category_seq", sequenceName = "category_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Integer id; // Unique identifier for each category
 
     private String name; // The name of the category
@@ -3,9 +3,11 @@ package com.micro.product.product;
 import com.micro.product.category.Category;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,10 +29,14 @@ import java.math.BigDecimal;
 // JPA annotation to mark the class as an entity (table in database)
 @Entity
 public class Product {
+    // Ids reserved per product_seq call; must match its INCREMENT BY (see V3__pooled_id_allocation.sql)
+    public static final int ID_ALLOCATION_SIZE = 100;
+
     // JPA annotation to mark 'id' as the primary key
     @Id
-    // JPA annotation to generate value automatically for 'id'
-    @GeneratedValue
+    // JPA annotation to generate 'id' from product_seq, reserving a block of ids per sequence call (pooled-lo)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Integer id; // Unique identifier for each product instance
 
     private String name; // Name of the product
@@ -28,6 +28,14 @@ public class ProductController {
         return ResponseEntity.ok(service.purchaseProducts(request));
     }
 
+    @PostMapping("/release")
+    public ResponseEntity<Void> releaseProducts(
+            @RequestBody List<ProductPurchaseRequest> request
+    ) {
+        service.releaseProducts(request);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{product-id}")
     public ResponseEntity<ProductResponse> findById(
             @PathVariable("product-id") Integer productId
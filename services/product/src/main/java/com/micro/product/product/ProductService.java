@@ -88,4 +88,23 @@ public class ProductService {
         }
         return purchasedProducts; // Return all purchase responses
     }
-}
\ No newline at end of file
+
+    // Give back stock taken by purchaseProducts when the caller could not complete its orders (compensation)
+    @Transactional(rollbackFor = ProductPurchaseException.class)
+    public void releaseProducts(
+            List<ProductPurchaseRequest> request // Product IDs and the quantities to put back
+    ) {
+        var quantities = request
+                .stream()
+                .collect(Collectors.toMap(ProductPurchaseRequest::productId, ProductPurchaseRequest::quantity, Double::sum));
+
+        var storedProducts = repository.findAllByIdInOrderById(List.copyOf(quantities.keySet()));
+        if (storedProducts.size() != quantities.size()) {
+            throw new ProductPurchaseException("One or more products does not exist");
+        }
+        for (var product : storedProducts) {
+            product.setAvailableQuantity(product.getAvailableQuantity() + quantities.get(product.getId()));
+            repository.save(product); // Persist updates to DB
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- Product and Category ids are allocated by Hibernate's pooled-lo optimizer with allocationSize = 100:
+-- every nextval reserves the block [value, value + 99] in the service, so the sequences must step by 100.
+-- Ids handed out before (by V2 or the previous increment of 50) are all below the next value, so nothing collides.
+alter sequence category_seq increment by 100;
+alter sequence product_seq increment by 100;